@@ -0,0 +1,69 @@
+package com.study.event.api.auth;
+
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.entity.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.event.api.auth.TokenProvider.*;
+
+// TokenProvider 의 토큰 생성/검증 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    // 검증 캐시를 끈 설정 (jwt.cache.max-size=0)
+    private TokenProvider uncachedTokenProvider;
+    private EventUser eventUser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // 512비트 비밀키 (TokenProviderTest.makeSecretKey 와 같은 방식)
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+
+        String secretKey = Base64.getEncoder().encodeToString(key);
+        tokenProvider = newTokenProvider(secretKey, 10000);
+        uncachedTokenProvider = newTokenProvider(secretKey, 0);
+
+        eventUser = EventUser.builder()
+                .id("9f1c2a6e-2d7b-4a51-9d0e-3b8f6c1e5a77")
+                .email("bench@gmail.com")
+                .role(Role.PREMIUM)
+                .build();
+
+        token = tokenProvider.createToken(eventUser);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(eventUser);
+    }
+
+    // 같은 토큰 반복 검증 (검증 캐시 적중)
+    @Benchmark
+    public TokenUserInfo validateAndGetTokenInfo() {
+        return tokenProvider.validateAndGetTokenInfo(token);
+    }
+
+    // 검증 캐시를 사용하지 않을 때 (매번 서명 검증 + 클레임 파싱)
+    @Benchmark
+    public TokenUserInfo validateWithoutCache() {
+        return uncachedTokenProvider.validateAndGetTokenInfo(token);
+    }
+
+    private TokenProvider newTokenProvider(String secretKey, long cacheMaxSize) {
+        TokenProvider provider = new TokenProvider();
+        ReflectionTestUtils.setField(provider, "SECRET_KEY", secretKey);
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(provider, "initKey");
+        return provider;
+    }
+}
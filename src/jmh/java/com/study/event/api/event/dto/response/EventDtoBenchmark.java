@@ -0,0 +1,63 @@
+package com.study.event.api.event.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.event.api.event.entity.Event;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 이벤트 응답 DTO 생성과 목록 응답(getEvents 결과) JSON 직렬화 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventDtoBenchmark {
+
+    private Event event;
+    private Map<String, Object> eventsResponse;
+
+    // 스프링 부트가 만드는 것과 같은 설정 (JavaTimeModule, 날짜를 timestamp 로 쓰지 않음)
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        event = Event.builder()
+                .id(1L)
+                .title("건강건강 이벤트")
+                .description("건강검진 받고 선물 받아가세요!")
+                .image("https://www.nhis.or.kr/static/alim/paper/oldpaper/202109/assets/images/sub/event01_mo.jpg")
+                .date(LocalDate.of(2024, 12, 31))
+                .build();
+
+        // EventService.getEvents 와 같은 형태 (한 페이지 4개)
+        List<EventDetailDto> events = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            events.add(new EventDetailDto(event));
+        }
+        eventsResponse = new HashMap<>();
+        eventsResponse.put("events", events);
+        eventsResponse.put("totalCount", 4L);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public EventDetailDto eventDetailDto() {
+        return new EventDetailDto(event);
+    }
+
+    @Benchmark
+    public EventOneDto eventOneDto() {
+        return new EventOneDto(event);
+    }
+
+    @Benchmark
+    public byte[] serializeEvents() throws Exception {
+        return objectMapper.writeValueAsBytes(eventsResponse);
+    }
+}
@@ -0,0 +1,169 @@
+package com.study.event.api.event.repository;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.study.event.api.event.dto.response.EventDetailDto;
+import com.study.event.api.event.entity.Event;
+import org.flywaydb.core.Flyway;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.event.api.event.entity.QEvent.event;
+
+// 이벤트 목록 조회 - 엔터티 조회 후 DTO 변환(변경 전) vs DTO 직접 조회(변경 후)
+// 내장 MariaDB 에 마이그레이션을 적용하고 한 회원의 이벤트를 넣은 뒤 첫 페이지를 반복 조회한다.
+// 아직 측정 결과가 없으므로 두 방식의 성능 차이를 가정하지 않는다. (측정 후 결과를 README 에 기록)
+//
+// 요청당 할당량까지 비교하려면: ./gradlew jmh -Pjmh.includes=EventListQueryBenchmark -Pjmh.profilers=gc
+// (gc.alloc.rate.norm = 호출 1번당 할당 바이트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventListQueryBenchmark {
+
+    private static final String USER_ID = "bench-user";
+    private static final int EVENTS = 1000;
+
+    // 한 페이지 크기 (서비스는 4)
+    @Param({"4", "50"})
+    private int pageSize;
+
+    private DB db;
+    private EntityManagerFactory emf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB("event_bench");
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:mariadb://localhost:" + db.getConfiguration().getPort() + "/event_bench", "root", "");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        insertEvents(dataSource);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.study.event.api.event.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        Properties properties = new Properties();
+        properties.put("hibernate.hbm2ddl.auto", "none");
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        // 스프링 부트와 같은 이름 규칙 (createdAt => created_at)
+        properties.put("hibernate.physical_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy");
+        properties.put("hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy");
+        factoryBean.setJpaProperties(properties);
+        factoryBean.afterPropertiesSet();
+        emf = factoryBean.getObject();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        emf.close();
+        db.stop();
+    }
+
+    // 변경 전: 읽기/쓰기 트랜잭션에서 Event 엔터티를 조회하고 DTO 로 변환 (커밋시 변경 감지)
+    @Benchmark
+    public List<EventDetailDto> entityThenMap() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            JPAQueryFactory factory = new JPAQueryFactory(em);
+
+            List<Event> events = factory.selectFrom(event)
+                    .where(event.eventUser.id.eq(USER_ID))
+                    .orderBy(event.date.desc())
+                    .limit(pageSize)
+                    .fetch();
+            factory.select(event.count()).from(event).where(event.eventUser.id.eq(USER_ID)).fetchOne();
+
+            List<EventDetailDto> dtoList = new ArrayList<>(events.size());
+            for (Event e : events) {
+                dtoList.add(new EventDetailDto(e));
+            }
+            em.getTransaction().commit();
+            return dtoList;
+        } finally {
+            em.close();
+        }
+    }
+
+    // 변경 후: 읽기 전용 트랜잭션에서 필요한 컬럼만 DTO 로 조회 (EventRepositoryCustomImpl.findEvents)
+    @Benchmark
+    public Page<EventDetailDto> dtoProjection() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            // 스프링의 읽기 전용 트랜잭션과 같은 설정 (스냅샷 없음, flush 안 함)
+            Session session = em.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+
+            em.getTransaction().begin();
+            // 전체 개수는 목록 버전과 함께 회원 행에서 조회 (EventUserRepository.findEventListVersionById)
+            EventListVersion listVersion = em.createQuery(
+                            "select new com.study.event.api.event.repository.EventListVersion(u.eventListVersion, u.eventCount) " +
+                                    "from EventUser u where u.id = :userId", EventListVersion.class)
+                    .setParameter("userId", USER_ID)
+                    .getSingleResult();
+            Page<EventDetailDto> page = new EventRepositoryCustomImpl(new JPAQueryFactory(em))
+                    .findEvents(PageRequest.of(0, pageSize), "date", USER_ID, listVersion.getEventCount());
+            em.getTransaction().commit();
+            return page;
+        } finally {
+            em.close();
+        }
+    }
+
+    private void insertEvents(DriverManagerDataSource dataSource) throws SQLException {
+        try (Connection con = dataSource.getConnection()) {
+            try (PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO tbl_event_user (ev_user_id, ev_user_email, role, email_verified, ev_count, ev_list_version)"
+                            + " VALUES (?, 'bench@study.com', 'PREMIUM', 1, ?, 0)")) {
+                ps.setString(1, USER_ID);
+                ps.setInt(2, EVENTS);
+                ps.executeUpdate();
+            }
+
+            try (PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO tbl_event (ev_id, ev_title, ev_desc, ev_image_path, ev_start_date, ev_version, ev_user_id)"
+                            + " VALUES (?, ?, ?, ?, ?, 0, ?)")) {
+                LocalDate start = LocalDate.of(2024, 1, 1);
+                for (int i = 1; i <= EVENTS; i++) {
+                    ps.setLong(1, i);
+                    ps.setString(2, "이벤트 " + i);
+                    ps.setString(3, "벤치마크용 이벤트 설명 " + i);
+                    ps.setString(4, "https://bucket.s3.ap-northeast-2.amazonaws.com/2024/01/01/event" + i + ".jpg");
+                    ps.setDate(5, Date.valueOf(start.plusDays(i % 365)));
+                    ps.setString(6, USER_ID);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.study.event.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+// 부하 테스트 대상 애플리케이션을 호출하고 엔드포인트별 응답시간을 기록하는 HTTP 클라이언트
+class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+
+    // 응답시간 기록 대상 (워밍업이 끝나면 새 기록으로 교체)
+    private volatile LatencyRecorder recorder;
+
+    ApiClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    void setRecorder(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    LatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return builder;
+    }
+
+    // JSON 본문 요청 (method: POST, PUT)
+    HttpRequest.Builder json(String method, String path, String token, Object body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    // multipart/form-data 업로드 요청 (FileUploadController 의 userData, profileImage 파트)
+    HttpRequest.Builder upload(String path, Object userData,
+                               String fileName, String contentType, byte[] file) throws IOException {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"userData\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + objectMapper.writeValueAsString(userData) + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"profileImage\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+        byte[] body = new byte[head.length + file.length + tail.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(file, 0, body, head.length, file.length);
+        System.arraycopy(tail, 0, body, head.length + file.length, tail.length);
+
+        return request(path, null)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    }
+
+    /**
+     * 요청을 보내고 응답시간을 기록
+     * @param endpoint - 보고서에 표시할 이름 (경로 변수는 {n} 처럼 묶어서)
+     * @throws IllegalStateException - 200 이 아닌 응답
+     */
+    String send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        LatencyRecorder recorder = this.recorder;
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean ok = response.statusCode() == 200;
+        recorder.record(endpoint, System.nanoTime() - start, ok);
+
+        if (!ok) {
+            throw new IllegalStateException(endpoint + " - " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    JsonNode sendForJson(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        return objectMapper.readTree(send(endpoint, request));
+    }
+}
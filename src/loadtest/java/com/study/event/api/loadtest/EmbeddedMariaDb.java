@@ -0,0 +1,39 @@
+package com.study.event.api.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// 내장 MariaDB (mariaDB4j 가 라이브러리에 포함된 MariaDB 를 임시 디렉터리에 풀어 실행)
+// 운영과 같은 DB 를 사용하므로 Flyway 마이그레이션, 네이티브 쿼리, 시퀀스를 그대로 검증할 수 있다.
+class EmbeddedMariaDb implements AutoCloseable {
+
+    private final DB db;
+    private final String url;
+
+    private EmbeddedMariaDb(DB db, String url) {
+        this.db = db;
+        this.url = url;
+    }
+
+    static EmbeddedMariaDb start(String databaseName) throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 0 이면 빈 포트를 찾아 사용
+
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(databaseName);
+
+        String url = "jdbc:mariadb://localhost:" + db.getConfiguration().getPort() + "/" + databaseName;
+        return new EmbeddedMariaDb(db, url);
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.event.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답시간 기록 (마이크로초 단위 HdrHistogram)
+// 평균이 아닌 분위수(p50/p99/p999)로 비교해야 가끔 느린 요청이 드러난다.
+class LatencyRecorder {
+
+    // 기록할 수 있는 최대 응답시간 (1분), 유효숫자 3자리
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    // 엔드포인트 => 응답시간 (보고서는 처음 기록된 순서대로 출력)
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final List<String> order = new ArrayList<>();
+
+    private static class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(MAX_MICROS, SIGNIFICANT_DIGITS);
+        final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * 응답시간 기록
+     * @param ok - 기대한 응답이 아니면 false (응답시간은 그대로 기록하고 오류 수를 센다.)
+     */
+    void record(String endpoint, long elapsedNanos, boolean ok) {
+        Endpoint e = endpoint(endpoint);
+        e.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_MICROS));
+        if (!ok) e.errors.increment();
+    }
+
+    private Endpoint endpoint(String name) {
+        Endpoint e = endpoints.get(name);
+        if (e != null) return e;
+        synchronized (order) {
+            return endpoints.computeIfAbsent(name, k -> {
+                order.add(k);
+                return new Endpoint();
+            });
+        }
+    }
+
+    long errorCount() {
+        return endpoints.values().stream().mapToLong(e -> e.errors.sum()).sum();
+    }
+
+    /**
+     * 엔드포인트별 처리량, 분위수 출력
+     * @param elapsedNanos - 측정 구간 전체 시간 (처리량 = 요청 수 / 측정 시간)
+     */
+    void print(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (String name : snapshotOrder()) {
+            Endpoint e = endpoints.get(name);
+            Histogram h = e.latency;
+            out.printf("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, h.getTotalCount(), e.errors.sum(), h.getTotalCount() / seconds,
+                    millis(h, 50), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0);
+        }
+    }
+
+    void writeCsv(Path file, long elapsedNanos) throws IOException {
+        double seconds = elapsedNanos / 1e9;
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,count,errors,throughput_per_sec,p50_ms,p99_ms,p999_ms,max_ms");
+        for (String name : snapshotOrder()) {
+            Endpoint e = endpoints.get(name);
+            Histogram h = e.latency;
+            lines.add(String.format("\"%s\",%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f",
+                    name, h.getTotalCount(), e.errors.sum(), h.getTotalCount() / seconds,
+                    millis(h, 50), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0));
+        }
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+    }
+
+    private List<String> snapshotOrder() {
+        synchronized (order) {
+            return new ArrayList<>(order);
+        }
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.event.api.loadtest;
+
+import com.study.event.api.EventApi20240710Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 서버 없이 실행하는 부하 테스트 (./gradlew loadTest)
+ * 내장 MariaDB, 로컬 SMTP 서버(GreenMail), 로컬 S3 대역을 띄우고 loadtest 프로필로 애플리케이션을 실행한 뒤
+ * 가상 사용자(concurrency)들이 회원 수(users)만큼 UserJourney 시나리오를 나누어 실행한다.
+ *
+ * 가상 사용자는 응답을 받아야 다음 요청을 보내므로(closed model) 서버가 느려지면 요청 속도도 줄어든다.
+ * 따라서 처리량과 함께 분위수를 보고, 실제 서비스의 요청 간격과는 다르다는 점을 감안해야 한다.
+ */
+public class LoadTest {
+
+    // 실패한 시나리오 중 출력할 오류 메시지 개수
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        System.out.println("load test: " + settings);
+
+        long failures;
+        try (EmbeddedMariaDb db = EmbeddedMariaDb.start("event_loadtest");
+             MailInbox inbox = MailInbox.start();
+             LocalS3Server s3 = LocalS3Server.start();
+             ConfigurableApplicationContext app = startApplication(db, inbox, s3)) {
+
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ApiClient api = new ApiClient("http://localhost:" + port, new LatencyRecorder());
+            UserJourney journey = new UserJourney(api, inbox, settings);
+
+            // 워밍업 (결과에서 제외)
+            run(journey, "warmup", settings.warmupUsers, settings.concurrency);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            api.setRecorder(recorder);
+
+            long start = System.nanoTime();
+            failures = run(journey, "user", settings.users, settings.concurrency);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("%n%d users in %.1f s (%.1f users/s), failed: %d%n",
+                    settings.users, elapsed / 1e9, settings.users / (elapsed / 1e9), failures);
+            recorder.print(System.out, elapsed);
+            recorder.writeCsv(settings.resultsFile, elapsed);
+
+            System.out.printf("%nmails received: %d, S3 objects: %d (%d bytes)%n",
+                    inbox.receivedCount(), s3.objectCount(), s3.storedBytes());
+            System.out.println("results: " + settings.resultsFile.toAbsolutePath());
+
+            if (recorder.errorCount() > 0) failures = Math.max(failures, 1);
+        }
+
+        // 실패한 요청이 있으면 빌드도 실패하도록
+        System.exit(failures > 0 ? 1 : 0);
+    }
+
+    // DB 주소, 포트는 실행할 때마다 바뀌므로 실행 인자로 넘긴다. (application.yml 보다 우선)
+    private static ConfigurableApplicationContext startApplication(EmbeddedMariaDb db, MailInbox inbox, LocalS3Server s3) {
+        return new SpringApplicationBuilder(EventApi20240710Application.class)
+                .profiles("loadtest")
+                .run("--spring.datasource.url=" + db.getUrl(),
+                        "--spring.mail.port=" + inbox.getPort(),
+                        "--aws.endpoint=" + s3.getEndpoint());
+    }
+
+    /**
+     * 회원 수만큼 시나리오를 가상 사용자들이 나누어 실행
+     * @return - 실패한 시나리오 수
+     */
+    private static long run(UserJourney journey, String prefix, int users, int concurrency) throws InterruptedException {
+        if (users <= 0) return 0;
+
+        AtomicInteger next = new AtomicInteger();
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+        AtomicInteger failed = new AtomicInteger();
+
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            virtualUsers.execute(() -> {
+                int n;
+                while ((n = next.getAndIncrement()) < users) {
+                    String email = prefix + "-" + n + "-" + System.nanoTime() + "@loadtest.com";
+                    try {
+                        journey.run(email);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        if (errors.size() < MAX_REPORTED_FAILURES) errors.add(e.toString());
+                    }
+                }
+            });
+        }
+        virtualUsers.shutdown();
+        virtualUsers.awaitTermination(1, TimeUnit.DAYS);
+
+        errors.forEach(e -> System.out.println("[" + prefix + " failed] " + e));
+        return failed.get();
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.event.api.loadtest;
+
+import java.nio.file.Path;
+
+// 부하 테스트 설정 (-Dloadtest.users=500 또는 ./gradlew loadTest -Ploadtest.users=500)
+class LoadTestSettings {
+
+    // 시나리오를 실행할 회원 수 (회원마다 가입부터 목록 조회까지 1번씩)
+    final int users;
+
+    // 동시에 시나리오를 실행하는 가상 사용자 수
+    final int concurrency;
+
+    // 측정 전에 JIT 컴파일, 커넥션 풀, 캐시를 데우기 위해 먼저 실행할 회원 수 (결과에서 제외)
+    final int warmupUsers;
+
+    // 회원마다 등록할 이벤트 수 (일반회원 제한을 넘으면 등급업 후 등록)
+    final int eventsPerUser;
+
+    // 회원마다 이미지를 하나 업로드하여 이벤트 이미지로 사용할지 여부
+    final boolean uploadImage;
+
+    // 엔드포인트별 결과를 저장할 CSV 파일
+    final Path resultsFile;
+
+    private LoadTestSettings(int users, int concurrency, int warmupUsers,
+                             int eventsPerUser, boolean uploadImage, Path resultsFile) {
+        this.users = users;
+        this.concurrency = concurrency;
+        this.warmupUsers = warmupUsers;
+        this.eventsPerUser = eventsPerUser;
+        this.uploadImage = uploadImage;
+        this.resultsFile = resultsFile;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 200),
+                Integer.getInteger("loadtest.concurrency", 20),
+                Integer.getInteger("loadtest.warmup-users", 20),
+                Integer.getInteger("loadtest.events-per-user", 8),
+                Boolean.parseBoolean(System.getProperty("loadtest.upload-image", "true")),
+                Path.of(System.getProperty("loadtest.results-file", "build/results/loadtest/results.csv"))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", concurrency=" + concurrency + ", warmupUsers=" + warmupUsers
+                + ", eventsPerUser=" + eventsPerUser + ", uploadImage=" + uploadImage;
+    }
+}
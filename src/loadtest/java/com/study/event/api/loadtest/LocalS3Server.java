@@ -0,0 +1,321 @@
+package com.study.event.api.loadtest;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// AwsS3Service 가 사용하는 S3 API 만 흉내내는 로컬 서버 (path-style: /버킷/키)
+// 객체 업로드, 다운로드, 삭제와 멀티파트 업로드(시작, 파트 업로드, 완료, 취소)를 메모리에 저장한다.
+class LocalS3Server implements AutoCloseable {
+
+    private static final String XML_NS = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // "/버킷/키" => 객체
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    // uploadId => 진행중인 멀티파트 업로드
+    private final Map<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+
+    private static class StoredObject {
+        final byte[] data;
+        final String contentType;
+        final String eTag;
+
+        StoredObject(byte[] data, String contentType, String eTag) {
+            this.data = data;
+            this.contentType = contentType;
+            this.eTag = eTag;
+        }
+    }
+
+    private static class MultipartUpload {
+        final String path;
+        final String contentType;
+        final SortedMap<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+
+        MultipartUpload(String path, String contentType) {
+            this.path = path;
+            this.contentType = contentType;
+        }
+    }
+
+    private LocalS3Server(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static LocalS3Server start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "local-s3");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        LocalS3Server s3 = new LocalS3Server(server, executor);
+        server.createContext("/", s3::handle);
+        server.setExecutor(executor);
+        server.start();
+        return s3;
+    }
+
+    // aws.endpoint 에 넣을 주소
+    String getEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int objectCount() {
+        return objects.size();
+    }
+
+    long storedBytes() {
+        return objects.values().stream().mapToLong(o -> o.data.length).sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String uploadId = query.get("uploadId");
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT":
+                    if (uploadId != null) {
+                        uploadPart(exchange, uploadId, Integer.parseInt(query.get("partNumber")));
+                    } else {
+                        putObject(exchange, path);
+                    }
+                    break;
+                case "GET":
+                case "HEAD":
+                    getObject(exchange, path);
+                    break;
+                case "POST":
+                    if (query.containsKey("uploads")) {
+                        createUpload(exchange, path);
+                    } else if (uploadId != null) {
+                        completeUpload(exchange, uploadId);
+                    } else {
+                        sendError(exchange, 400, "InvalidRequest");
+                    }
+                    break;
+                case "DELETE":
+                    if (uploadId != null) {
+                        uploads.remove(uploadId);
+                    } else {
+                        objects.remove(path);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                    break;
+                default:
+                    sendError(exchange, 405, "MethodNotAllowed");
+            }
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, "InternalError");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void putObject(HttpExchange exchange, String path) throws IOException {
+        byte[] data = readBody(exchange);
+        StoredObject object = new StoredObject(data, exchange.getRequestHeaders().getFirst("Content-Type"), md5Hex(data));
+        objects.put(path, object);
+
+        exchange.getResponseHeaders().set("ETag", quote(object.eTag));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, String path) throws IOException {
+        StoredObject object = objects.get(path);
+        if (object == null) {
+            sendError(exchange, 404, "NoSuchKey");
+            return;
+        }
+
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("ETag", quote(object.eTag));
+        if (object.contentType != null) headers.set("Content-Type", object.contentType);
+
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            headers.set("Content-Length", String.valueOf(object.data.length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        send(exchange, 200, object.data);
+    }
+
+    private void createUpload(HttpExchange exchange, String path) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new MultipartUpload(path, exchange.getRequestHeaders().getFirst("Content-Type")));
+
+        sendXml(exchange, "<InitiateMultipartUploadResult xmlns=\"" + XML_NS + "\">"
+                + bucketAndKey(path)
+                + "<UploadId>" + uploadId + "</UploadId>"
+                + "</InitiateMultipartUploadResult>");
+    }
+
+    private void uploadPart(HttpExchange exchange, String uploadId, int partNumber) throws IOException {
+        MultipartUpload upload = uploads.get(uploadId);
+        if (upload == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        byte[] data = readBody(exchange);
+        upload.parts.put(partNumber, data);
+
+        exchange.getResponseHeaders().set("ETag", quote(md5Hex(data)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    // 파트를 번호 순으로 이어 붙여 하나의 객체로 저장 (ETag 는 S3 처럼 "파트 MD5 들의 MD5-파트 수")
+    private void completeUpload(HttpExchange exchange, String uploadId) throws IOException {
+        readBody(exchange); // 파트 목록 (업로드된 파트를 모두 사용하므로 확인하지 않음)
+
+        MultipartUpload upload = uploads.remove(uploadId);
+        if (upload == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        ByteArrayOutputStream partDigests = new ByteArrayOutputStream();
+        for (byte[] part : upload.parts.values()) {
+            data.writeBytes(part);
+            partDigests.writeBytes(md5(part));
+        }
+        String eTag = toHex(md5(partDigests.toByteArray())) + "-" + upload.parts.size();
+        objects.put(upload.path, new StoredObject(data.toByteArray(), upload.contentType, eTag));
+
+        sendXml(exchange, "<CompleteMultipartUploadResult xmlns=\"" + XML_NS + "\">"
+                + bucketAndKey(upload.path)
+                + "<ETag>" + escape(quote(eTag)) + "</ETag>"
+                + "</CompleteMultipartUploadResult>");
+    }
+
+    /**
+     * 요청 본문 읽기
+     * SDK 는 HTTP(비 TLS) 주소로 업로드할 때 본문을 서명된 청크(aws-chunked)로 나누어 보내므로
+     * "크기(16진수);chunk-signature=...\r\n데이터\r\n" 형식을 풀어 원래 데이터만 꺼낸다.
+     */
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha256 == null || !contentSha256.startsWith("STREAMING-")) return raw;
+        return decodeChunks(raw);
+    }
+
+    static byte[] decodeChunks(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length);
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = pos;
+            while (lineEnd + 1 < raw.length && !(raw[lineEnd] == '\r' && raw[lineEnd + 1] == '\n')) lineEnd++;
+
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int semicolon = header.indexOf(';');
+            int size = Integer.parseInt((semicolon < 0 ? header : header.substring(0, semicolon)).trim(), 16);
+            if (size == 0) break;
+
+            pos = lineEnd + 2;
+            out.write(raw, pos, size);
+            pos += size + 2; // 데이터 뒤의 \r\n
+        }
+        return out.toByteArray();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>");
+    }
+
+    private void sendXml(HttpExchange exchange, String body) throws IOException {
+        sendXml(exchange, 200, body);
+    }
+
+    private void sendXml(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        send(exchange, status, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length == 0) return;
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String bucketAndKey(String path) {
+        int slash = path.indexOf('/', 1);
+        return "<Bucket>" + escape(path.substring(1, slash)) + "</Bucket>"
+                + "<Key>" + escape(path.substring(slash + 1)) + "</Key>";
+    }
+
+    // uploads 처럼 값이 없는 파라미터는 빈 문자열로 저장
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static String quote(String eTag) {
+        return "\"" + eTag + "\"";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String md5Hex(byte[] data) {
+        return toHex(md5(data));
+    }
+
+    private static byte[] md5(byte[] data) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,90 @@
+package com.study.event.api.loadtest;
+
+import com.icegreen.greenmail.store.FolderException;
+import com.icegreen.greenmail.store.StoredMessage;
+import com.icegreen.greenmail.user.GreenMailUser;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 애플리케이션이 보낸 인증 메일을 받는 로컬 SMTP 서버 (GreenMail)
+// 받는 사람별 메일함에서 최신 인증 메일의 코드를 꺼내 준다.
+class MailInbox implements AutoCloseable {
+
+    // EventUserService.sendVerificationEmail 의 본문 형식 - 인증 코드: <b ...>1234</b>
+    private static final Pattern CODE = Pattern.compile(">(\\d{4})</b>");
+
+    private static final long POLL_MILLIS = 10;
+
+    private final GreenMail greenMail;
+    private final int port;
+
+    private MailInbox(GreenMail greenMail, int port) {
+        this.greenMail = greenMail;
+        this.port = port;
+    }
+
+    static MailInbox start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        GreenMail greenMail = new GreenMail(new ServerSetup(port, "localhost", ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+        return new MailInbox(greenMail, port);
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    /**
+     * 인증 메일이 도착할 때까지 기다려 가장 최근 메일의 인증 코드를 반환
+     * @throws IllegalStateException - 제한 시간 안에 메일이 오지 않은 경우
+     */
+    String awaitCode(String email, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            List<StoredMessage> messages = messagesOf(email);
+            if (!messages.isEmpty()) {
+                String body = GreenMailUtil.getBody(messages.get(messages.size() - 1).getMimeMessage());
+                Matcher matcher = CODE.matcher(body);
+                if (!matcher.find()) {
+                    throw new IllegalStateException("인증 코드를 찾을 수 없습니다. - " + email);
+                }
+                return matcher.group(1);
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("인증 메일이 도착하지 않았습니다. - " + email);
+            }
+            TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+        }
+    }
+
+    // 받는 사람의 메일함 (메일을 처음 받을 때 GreenMail 이 만든다.)
+    private List<StoredMessage> messagesOf(String email) {
+        GreenMailUser user = greenMail.getUserManager().getUserByEmail(email);
+        if (user == null) return List.of();
+        try {
+            return greenMail.getManagers().getImapHostManager().getInbox(user).getMessages();
+        } catch (FolderException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int receivedCount() {
+        return greenMail.getReceivedMessages().length;
+    }
+
+    @Override
+    public void close() {
+        greenMail.stop();
+    }
+}
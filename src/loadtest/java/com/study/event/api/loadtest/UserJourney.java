@@ -0,0 +1,136 @@
+package com.study.event.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원 한 명의 시나리오
+ * 이메일 중복확인(인증 메일 발송) → 인증 코드 확인 → 가입 마무리 → 로그인
+ * → 이미지 업로드 → (일반회원 제한을 넘으면 등급업) → 이벤트 등록 → 목록 전체 페이지 조회
+ */
+class UserJourney {
+
+    // EventService.COMMON_EVENT_LIMIT - 일반회원이 등록할 수 있는 최대 이벤트 개수
+    private static final int COMMON_EVENT_LIMIT = 4;
+
+    private static final String PASSWORD = "loadtest1234!";
+
+    // 인증 메일이 도착할 때까지 기다리는 최대 시간
+    private static final long MAIL_TIMEOUT_MILLIS = 30_000;
+
+    // 업로드할 이미지 (축소본 생성까지 일어나도록 축소본보다 큰 크기)
+    private static final byte[] IMAGE = createImage(1280, 960);
+
+    private final ApiClient api;
+    private final MailInbox inbox;
+    private final LoadTestSettings settings;
+
+    UserJourney(ApiClient api, MailInbox inbox, LoadTestSettings settings) {
+        this.api = api;
+        this.inbox = inbox;
+        this.settings = settings;
+    }
+
+    void run(String email) throws IOException, InterruptedException {
+        String encodedEmail = URLEncoder.encode(email, StandardCharsets.UTF_8);
+
+        // 1. 이메일 중복확인 - 새 이메일이면 임시 가입 후 인증 메일 발송
+        String duplicate = api.send("GET /auth/check-email",
+                api.request("/auth/check-email?email=" + encodedEmail, null).GET().build());
+        expect("false".equals(duplicate), "이미 가입된 이메일입니다. - " + email);
+
+        // 2. 인증 메일 수신 (발송 대기열을 거쳐 도착하기까지의 시간)
+        long start = System.nanoTime();
+        String code;
+        try {
+            code = inbox.awaitCode(email, MAIL_TIMEOUT_MILLIS);
+        } catch (IllegalStateException e) {
+            api.getRecorder().record("SMTP verification mail", System.nanoTime() - start, false);
+            throw e;
+        }
+        api.getRecorder().record("SMTP verification mail", System.nanoTime() - start, true);
+
+        String matched = api.send("GET /auth/code",
+                api.request("/auth/code?email=" + encodedEmail + "&code=" + code, null).GET().build());
+        expect("true".equals(matched), "인증 코드가 일치하지 않습니다. - " + email);
+
+        // 3. 가입 마무리, 로그인
+        Map<String, String> credentials = Map.of("email", email, "password", PASSWORD);
+        api.send("POST /auth/join", api.json("POST", "/auth/join", null, credentials).build());
+
+        String token = api.sendForJson("POST /auth/sign-in",
+                api.json("POST", "/auth/sign-in", null, credentials).build()).get("token").asText();
+
+        // 4. 이벤트 이미지 업로드 (S3 업로드, 백그라운드 축소본 생성)
+        String imageUrl = null;
+        if (settings.uploadImage) {
+            imageUrl = api.send("POST /file/upload",
+                    api.upload("/file/upload", credentials, "loadtest.png", "image/png", IMAGE).build());
+        }
+
+        // 5. 이벤트 등록 (일반회원 제한보다 많이 등록하려면 먼저 등급업)
+        if (settings.eventsPerUser > COMMON_EVENT_LIMIT) {
+            token = api.sendForJson("PUT /auth/promote",
+                    api.request("/auth/promote", token).PUT(HttpRequest.BodyPublishers.noBody()).build())
+                    .get("token").asText();
+        }
+
+        for (int i = 1; i <= settings.eventsPerUser; i++) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("title", "부하 테스트 이벤트 " + i);
+            event.put("desc", email + " 님의 " + i + "번째 이벤트");
+            event.put("imageUrl", imageUrl);
+            event.put("beginDate", LocalDate.now().plusDays(i).toString());
+
+            api.send("POST /events", api.json("POST", "/events", token, event).build());
+        }
+
+        // 6. 등록한 이벤트를 끝까지 페이지 단위로 조회
+        int seen = 0;
+        for (int pageNo = 1; ; pageNo++) {
+            JsonNode page = api.sendForJson("GET /events/page/{n}",
+                    api.request("/events/page/" + pageNo + "?sort=date", token).GET().build());
+
+            int size = page.get("events").size();
+            seen += size;
+            if (size == 0 || seen >= page.get("totalCount").asLong()) break;
+        }
+        expect(seen == settings.eventsPerUser,
+                "목록 조회 결과가 등록한 이벤트 수와 다릅니다. - " + email + " (" + seen + ")");
+    }
+
+    private static void expect(boolean condition, String message) {
+        if (!condition) throw new IllegalStateException(message);
+    }
+
+    private static byte[] createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+            g.fillRect(0, 0, width, height);
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,169 @@
+package com.study.event.api.auth;
+
+import com.study.event.api.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 비밀번호 암호화(BCrypt)를 전용 스레드풀에서 실행하는 컴포넌트
+// BCrypt 는 의도적으로 느린 CPU 작업이라 로그인이 몰리면 톰캣 스레드와 CPU 를 모두 차지해
+// 이벤트 목록 같은 가벼운 요청까지 느려진다. 동시에 실행되는 암호화 작업을 CPU 코어 수로 제한하고
+// 대기열이 가득 차면 기다리지 않고 바로 거절(503)한다.
+@Component
+@Slf4j
+public class PasswordHasher implements MeterBinder {
+
+    private final PasswordEncoder encoder;
+
+    private final ThreadPoolExecutor executor;
+
+    // 대기열에서 기다리는 시간까지 포함한 최대 대기 시간
+    private final long timeoutMillis;
+
+    // 통계
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Long::max, 0);
+
+    public PasswordHasher(
+            PasswordEncoder encoder,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+
+        this.encoder = encoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0 이면 CPU 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    private void stop() {
+        executor.shutdown();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 암호가 현재 설정(work factor)보다 약하게 암호화되어 있는지 (로그인 성공시 다시 암호화)
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 대기열 길이, 처리 건수, 평균/최대 암호화 시간
+    public Map<String, Object> stats() {
+        long count = completed.sum();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("poolSize", executor.getMaximumPoolSize());
+        map.put("active", executor.getActiveCount());
+        map.put("queueDepth", executor.getQueue().size());
+        map.put("queueRemaining", executor.getQueue().remainingCapacity());
+        map.put("completed", count);
+        map.put("rejected", rejected.sum());
+        map.put("avgHashMillis", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(hashNanos.sum() / count));
+        map.put("maxHashMillis", TimeUnit.NANOSECONDS.toMillis(maxHashNanos.get()));
+        map.put("avgQueueWaitMillis", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.sum() / count));
+        return map;
+    }
+
+    // 프로메테우스 메트릭 (auth.password.hashing.*)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("암호화 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("auth.password.hashing.rejected", rejected, LongAdder::sum)
+                .register(registry);
+        FunctionTimer.builder("auth.password.hashing", this,
+                        h -> h.completed.sum(), h -> h.hashNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("암호화 1회 소요 시간 (대기 시간 제외)")
+                .register(registry);
+        FunctionTimer.builder("auth.password.hashing.queue.wait", this,
+                        h -> h.completed.sum(), h -> h.queueWaitNanos.sum(), TimeUnit.NANOSECONDS)
+                .register(registry);
+        TimeGauge.builder("auth.password.hashing.max", maxHashNanos, TimeUnit.NANOSECONDS, LongAccumulator::get)
+                .register(registry);
+    }
+
+    int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    completed.increment();
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                    queueWaitNanos.add(startedAt - submittedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingRejectedException("요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -2,7 +2,12 @@ package com.study.event.api.auth;
 
 import com.study.event.api.event.entity.EventUser;
 import com.study.event.api.event.entity.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,11 +16,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -31,6 +44,68 @@ public class TokenProvider {
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
+    // 토큰 종류 (access: API 요청용, refresh: access 토큰 재발급용)
+    private static final String TYPE_CLAIM = "typ";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
+    // 발급시각(epoch millis) - iat 는 초 단위라 같은 초에 무효화한 토큰과 새로 발급한 토큰을 구분할 수 없다.
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    // access 토큰 유효시간 - 짧게 두어 등급 변경 등이 늦어도 이 시간 안에 반영되도록 한다.
+    @Value("${jwt.access-token-minutes:15}")
+    private long accessTokenMinutes = 15;
+
+    // refresh 토큰 유효시간 (이 기간 동안 다시 로그인하지 않아도 됨)
+    @Value("${jwt.refresh-token-days:14}")
+    private long refreshTokenDays = 14;
+
+    // 검증을 마친 토큰을 보관할 최대 개수 (0 이면 캐시를 사용하지 않고 매번 검증)
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize = 10000;
+
+    // 비밀키로 만든 서명키와 파서는 요청마다 만들 필요가 없으므로 한 번만 생성 (파서는 thread-safe)
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 토큰 해시값 -> 검증된 토큰 정보
+    // 같은 토큰으로 반복 요청할 때 서명 검증(HMAC-SHA512)과 클레임 파싱을 생략한다.
+    // 각 토큰은 자신의 만료시간(exp)이 지나면 캐시에서 제거된다. (캐시를 끄면 null)
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct // 비밀키가 주입된 후 단 1번 실행
+    private void initKey() {
+        this.signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                // 토큰 발급자의 발급 당시 서명을 넣음
+                .setSigningKey(signingKey)
+                .build();
+
+        // 크기 0 캐시는 제거가 비동기라 일부 토큰이 잠시 남을 수 있으므로 캐시 자체를 만들지 않는다.
+        if (cacheMaxSize <= 0) return;
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainMillis = value.expiresAt - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     public String createToken (EventUser eventUser) {
 
         /*
@@ -52,25 +127,59 @@ public class TokenProvider {
         Map<String, Object> claims = new HashMap<>();
         claims.put("email", eventUser.getEmail());
         claims.put("role", eventUser.getRole().toString());
+        claims.put(TYPE_CLAIM, ACCESS_TYPE);
+
+        Date now = new Date();
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
 
 //        System.out.println("SECTET_KEY = " + SECRET_KEY);
 
         return Jwts.builder() // token 암호화
                 // 1. token에 들어갈 서명
                 .signWith(
-                        Keys.hmacShaKeyFor(SECRET_KEY.getBytes())
+                        signingKey
                         , SignatureAlgorithm.HS512
                 )
                 // 3. payload 에 들어갈 클레임 생성 (token 에 넣어 줄 추가 내용, 추가클레임은 항상 가장 먼저 설정해야 한다.)
                 .setClaims(claims)
                 // 2. payload 에 들어갈 클레임 생성 (token 의 필수 내용)
                 .setIssuer("폼폼푸린") // 발급자 정보
-                .setIssuedAt(new Date()) // 발급 시간
-                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS))) // 토큰 만료시간 (1일 후)
+                .setIssuedAt(now) // 발급 시간
+                .setExpiration(Date.from(now.toInstant().plus(accessTokenMinutes, ChronoUnit.MINUTES))) // 토큰 만료시간 (15분 후)
                 .setSubject(eventUser.getId()) // 토큰을 식별할 수 있는 유일한 값
+                .setId(UUID.randomUUID().toString()) // 토큰 ID - 토큰 단위 무효화에 사용
                 .compact();
     }
 
+    /**
+     * access 토큰을 다시 발급받을 때 사용하는 refresh 토큰 생성
+     * 권한(role)은 넣지 않고, 재발급할 때 DB 의 현재 권한으로 access 토큰을 만든다.
+     */
+    public String createRefreshToken(EventUser eventUser) {
+        return Jwts.builder()
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
+                .setIssuer("폼폼푸린")
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(Instant.now().plus(refreshTokenDays, ChronoUnit.DAYS)))
+                .setSubject(eventUser.getId())
+                .setId(UUID.randomUUID().toString())
+                .compact();
+    }
+
+    /**
+     * refresh 토큰의 서명과 만료 여부, 종류를 검사
+     * @throws JwtException - 위조, 만료되었거나 refresh 토큰이 아닌 경우
+     */
+    public RefreshTokenInfo validateRefreshToken(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        if (!REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new JwtException("refresh 토큰이 아닙니다.");
+        }
+        return new RefreshTokenInfo(claims.getSubject(), claims.getId(), claims.getExpiration().toInstant());
+    }
+
     /**
      * 클라이언트가 전송한 토큰을 디코딩하여 토큰의 서명 위조 여부를 확인하기
      * 그리고 토큰을 JSON 으로 파싱하여 안에 들어있는 클레임(토큰 정보) 를 리턴한다.
@@ -80,27 +189,75 @@ public class TokenProvider {
      */
     public TokenUserInfo validateAndGetTokenInfo(String token) {
 
-        Claims claims = Jwts.parserBuilder()
-                // 토큰 발급자의 발급 당시 서명을 넣음
-                .setSigningKey(
-                        Keys.hmacShaKeyFor(SECRET_KEY.getBytes())
-                )
-                // 서명위조 검사 진행 : 위조된 경우 Exception이 발생
-                // 위조되지 않은 경우 클레임을 리턴
-                .build()
+        if (verifiedTokens == null) {
+            return toUserInfo(parseAccessToken(token));
+        }
+
+        // 이미 검증한 토큰이고 아직 만료되지 않았다면 검증 생략
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.userInfo;
+        }
+
+        Claims claims = parseAccessToken(token);
+        TokenUserInfo userInfo = toUserInfo(claims);
+        verifiedTokens.put(digest, new VerifiedToken(userInfo, claims.getExpiration().getTime()));
+
+        return userInfo;
+    }
+
+    private Claims parseAccessToken(String token) {
+        // 서명위조 검사 진행 : 위조된 경우 Exception이 발생
+        // 위조되지 않은 경우 클레임을 리턴
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
         log.info("claims: {}", claims);
 
+        // refresh 토큰으로는 API 를 호출할 수 없다.
+        if (REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new JwtException("access 토큰이 아닙니다.");
+        }
+        return claims;
+    }
+
+    private TokenUserInfo toUserInfo(Claims claims) {
         // 토큰에 인증된 회원의 pk(id), email, role(권한)
         return TokenUserInfo.builder()
                                         .userId(claims.getSubject())
                                         .email(claims.get("email", String.class))
                                         .role(Role.valueOf(claims.get("role", String.class)))
+                                        .tokenId(claims.getId())
+                                        .issuedAt(issuedAtMillis(claims))
                                         .build();
     }
 
+    // 밀리초 발급시각이 없는 토큰(이 클레임을 넣기 전에 발급)은 초 단위 iat 를 사용
+    private long issuedAtMillis(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return millis != null ? millis : claims.getIssuedAt().getTime();
+    }
+
+    // 토큰 원문 대신 SHA-256 해시값을 캐시 키로 사용
+    private String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 검증이 끝난 토큰 정보와 만료시간
+    @RequiredArgsConstructor
+    private static class VerifiedToken {
+        private final TokenUserInfo userInfo;
+        private final long expiresAt;
+    }
+
     @Getter @ToString
     @EqualsAndHashCode
     @NoArgsConstructor
@@ -111,5 +268,19 @@ public class TokenProvider {
         private String userId;
         private String email;
         private Role role;
+
+        // 토큰 ID(jti)와 발급시각(epoch millis) - 무효화된 토큰인지 확인할 때 사용
+        private String tokenId;
+        private long issuedAt;
+    }
+
+    // 검증된 refresh 토큰 정보
+    @Getter @ToString
+    @RequiredArgsConstructor
+    public static class RefreshTokenInfo {
+
+        private final String userId;
+        private final String tokenId;
+        private final Instant expiresAt;
     }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.study.event.api.auth.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.event.api.auth.ratelimit.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 없이 호출할 수 있는 /auth 요청의 횟수 제한 필터
+// 인증메일 발송(check-email, code)과 BCrypt 연산(sign-in, join)이 반복 호출되어
+// SMTP, CPU, 커넥션풀을 독점하지 않도록 클라이언트 IP 와 이메일별로 제한하고 초과시 429 응답한다.
+@Component
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    // 인증메일을 보내는 요청
+    private static final Set<String> MAIL_PATHS = Set.of("/auth/check-email", "/auth/code");
+
+    // 비밀번호를 암호화, 검증하는 요청
+    private static final Set<String> LOGIN_PATHS = Set.of("/auth/sign-in", "/auth/join");
+
+    // 이메일을 읽기 위해 메모리에 올릴 요청 본문 최대 크기
+    private static final int MAX_BODY_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final RateLimiter ipLimiter;
+    private final RateLimiter mailLimiter;
+    private final RateLimiter loginLimiter;
+
+    public AuthRateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${auth.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${auth.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-seconds:2}") long ipRefillSeconds,
+            @Value("${auth.rate-limit.mail.capacity:5}") int mailCapacity,
+            @Value("${auth.rate-limit.mail.refill-seconds:60}") long mailRefillSeconds,
+            @Value("${auth.rate-limit.login.capacity:10}") int loginCapacity,
+            @Value("${auth.rate-limit.login.refill-seconds:6}") long loginRefillSeconds) {
+
+        this.objectMapper = objectMapper;
+        this.ipLimiter = new RateLimiter(ipCapacity, Duration.ofSeconds(ipRefillSeconds), maxKeys);
+        this.mailLimiter = new RateLimiter(mailCapacity, Duration.ofSeconds(mailRefillSeconds), maxKeys);
+        this.loginLimiter = new RateLimiter(loginCapacity, Duration.ofSeconds(loginRefillSeconds), maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !MAIL_PATHS.contains(path) && !LOGIN_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        // 1. IP 별 제한 (같은 IP 에서 여러 이메일로 요청하는 경우)
+        // 프록시 뒤에서는 톰캣이 X-Forwarded-For 로 복원한 실제 클라이언트 IP (server.properties)
+        long wait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            reject(response, wait, "ip");
+            return;
+        }
+
+        // 2. 이메일별 제한 (여러 IP 에서 한 이메일로 요청하는 경우)
+        boolean mail = MAIL_PATHS.contains(request.getServletPath());
+        HttpServletRequest target = request;
+        String email;
+
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            email = normalize(request.getParameter("email"));
+        } else {
+            // 본문은 한 번만 읽을 수 있으므로 복사해두고 컨트롤러에는 복사본을 전달
+            if (request.getContentLengthLong() > MAX_BODY_SIZE) {
+                response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                return;
+            }
+            byte[] body = readBody(request.getInputStream());
+            if (body == null) {
+                response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                return;
+            }
+            target = new CachedBodyRequest(request, body);
+            email = normalize(emailOf(body));
+        }
+
+        if (email != null) {
+            wait = (mail ? mailLimiter : loginLimiter).tryAcquire(email);
+            if (wait > 0) {
+                reject(response, wait, "email");
+                return;
+            }
+        }
+
+        filterChain.doFilter(target, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos, String reason) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.warn("auth rate limit exceeded ({}), retry after {}s", reason, seconds);
+
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("요청이 너무 많습니다. " + seconds + "초 후 다시 시도해주세요.");
+    }
+
+    // 대소문자, 앞뒤 공백만 다른 이메일로 제한을 피할 수 없도록 같은 키로 만든다.
+    private String normalize(String email) {
+        if (email == null || email.isBlank()) return null;
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 최대 크기까지만 읽고, 넘으면 null
+    private byte[] readBody(InputStream in) throws IOException {
+        byte[] body = StreamUtils.copyToByteArray(new LimitedInputStream(in, MAX_BODY_SIZE + 1));
+        return body.length > MAX_BODY_SIZE ? null : body;
+    }
+
+    // {"email": "..."} 형식이 아니면 null (형식 오류는 컨트롤러에서 처리)
+    private String emailOf(byte[] body) {
+        if (body.length == 0) return null;
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return (email != null && email.isTextual()) ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static class LimitedInputStream extends InputStream {
+        private final InputStream in;
+        private int remaining;
+
+        LimitedInputStream(InputStream in, int limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = in.read();
+            if (b != -1) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int n = in.read(b, off, Math.min(len, remaining));
+            if (n > 0) remaining -= n;
+            return n;
+        }
+    }
+
+    // 미리 읽어둔 본문을 다시 읽을 수 있게 해주는 요청 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
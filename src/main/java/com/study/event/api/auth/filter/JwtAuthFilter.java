@@ -1,6 +1,7 @@
 package com.study.event.api.auth.filter;
 
 import com.study.event.api.auth.TokenProvider;
+import com.study.event.api.auth.revocation.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -31,6 +32,9 @@ public class JwtAuthFilter extends OncePerRequestFilter { // 요청 한 번당 
 
     private final TokenProvider tokenProvider;
 
+    // 만료 전에 무효화된 토큰 목록 (메모리에서 확인, DB 조회 없음)
+    private final TokenRevocationList tokenRevocationList;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
@@ -45,6 +49,13 @@ public class JwtAuthFilter extends OncePerRequestFilter { // 요청 한 번당 
                 // 토큰 위조 검사하기 (만든곳에서 검사하는 것이 좋다.)
                 TokenUserInfo tokenInfo = tokenProvider.validateAndGetTokenInfo (token);
 
+                // 등급 변경 등으로 무효화된 토큰은 인증하지 않는다. (refresh 토큰으로 다시 발급받아야 함)
+                if (tokenRevocationList.isRevoked(tokenInfo.getUserId(), tokenInfo.getTokenId(), tokenInfo.getIssuedAt())) {
+                    log.info("무효화된 토큰입니다. - {}", tokenInfo.getEmail());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
                 // 인증 완료 처리하기
                 /*
                     스프링 시큐리티에게 인증완료상황을 전달하여 403 상태코드 대신 정상적인 흐름을 이어갈 수 있도록 처리
@@ -78,7 +89,8 @@ public class JwtAuthFilter extends OncePerRequestFilter { // 요청 한 번당 
         filterChain.doFilter(request, response);
     }
 
-    private String parseBearerToken(HttpServletRequest request) {
+    // 벤치마크에서 직접 호출할 수 있도록 package-private
+    String parseBearerToken(HttpServletRequest request) {
 
         /*
             1. 요청 헤더에서 토큰을 가져오기
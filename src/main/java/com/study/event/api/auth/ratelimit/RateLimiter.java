@@ -0,0 +1,64 @@
+package com.study.event.api.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 키(이메일, IP 등)별 토큰 버킷 요청 제한기
+// capacity 개까지 연속으로 허용하고, 이후에는 refillInterval 마다 1개씩 다시 허용한다.
+//
+// 버킷은 "다음 요청이 허용되는 이론상 시각" 하나만 AtomicLong 으로 저장하고 (GCRA 방식)
+// 토큰 계산과 갱신을 CAS 한 번으로 처리하므로 락이 없고, 이미 있는 키는 객체도 새로 만들지 않는다.
+public class RateLimiter {
+
+    private final long intervalNanos;
+
+    // 연속 허용 가능한 시간 폭 (capacity 개 만큼의 간격)
+    private final long burstNanos;
+
+    private final LongSupplier nanoClock;
+
+    // 오래 사용하지 않은 버킷은 이미 가득 찬 상태이므로 지워도 결과가 같다.
+    private final Cache<String, AtomicLong> buckets;
+
+    private final Function<String, AtomicLong> newBucket;
+
+    public RateLimiter(int capacity, Duration refillInterval, long maxKeys) {
+        this(capacity, refillInterval, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, Duration refillInterval, long maxKeys, LongSupplier nanoClock) {
+        this.intervalNanos = refillInterval.toNanos();
+        this.burstNanos = intervalNanos * capacity;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+
+        // 새 버킷은 가득 찬 상태 (허용 시각이 현재보다 이전)
+        long full = nanoClock.getAsLong();
+        this.newBucket = key -> new AtomicLong(full);
+    }
+
+    /**
+     * 요청 1개 허용 여부 확인
+     * @return - 허용되면 0, 제한에 걸리면 다시 요청할 수 있을 때까지 남은 시간 (nanos)
+     */
+    public long tryAcquire(String key) {
+        AtomicLong bucket = buckets.get(key, newBucket);
+        long now = nanoClock.getAsLong();
+
+        while (true) {
+            long allowedAt = bucket.get();
+            long next = Math.max(allowedAt, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) return wait;
+            if (bucket.compareAndSet(allowedAt, next)) return 0;
+        }
+    }
+}
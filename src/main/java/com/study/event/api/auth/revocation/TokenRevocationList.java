@@ -0,0 +1,159 @@
+package com.study.event.api.auth.revocation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 만료 전에 무효화된 토큰 목록 (JwtAuthFilter 가 요청마다 확인)
+// - 토큰 단위: 사용한 refresh 토큰 등 토큰 ID(jti)
+// - 회원 단위: 등급 변경처럼 회원의 기존 access 토큰을 모두 무효화 (지정 시각 이전에 발급된 토큰)
+//
+// 대부분의 요청은 무효화되지 않은 토큰이므로 블룸 필터로 먼저 걸러내고,
+// 필터가 "있을 수도 있다"고 할 때만 정확한 목록(Map)을 확인한다. DB 는 조회하지 않는다.
+// 항목은 토큰이 만료되면 필요 없으므로 주기적으로 지우고 필터를 다시 만든다.
+// (DB 기록은 UsedRefreshTokenStore, UserTokenCutoffStore 가 관리하고, 이 목록은 그 캐시로 사용한다.)
+@Component
+@Slf4j
+public class TokenRevocationList implements MeterBinder {
+
+    private static final String USER_KEY_PREFIX = "user:";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    // 필터에 넣을 예상 항목 수 (넘으면 오탐률이 올라갈 뿐 결과는 정확하다.)
+    private final int expectedEntries;
+
+    // access 토큰 유효시간 - 회원 단위 무효화는 이 시간이 지나면 필요 없다.
+    private final long accessTokenMillis;
+
+    private final LongSupplier clock;
+
+    // 토큰 ID => 토큰 만료시각 (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    // 회원 PK => 이 시각(epoch millis) 이전에 발급된 access 토큰은 무효
+    private final Map<String, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    // 필터 추가와 재생성이 겹치지 않도록 (요청 스레드에서도 잡으므로 가상 스레드가 고정되지 않는 ReentrantLock 사용)
+    private final Lock lock = new ReentrantLock();
+
+    private ScheduledExecutorService purger;
+
+    public TokenRevocationList(@Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${jwt.access-token-minutes:15}") long accessTokenMinutes) {
+        this(expectedEntries, TimeUnit.MINUTES.toMillis(accessTokenMinutes), System::currentTimeMillis);
+    }
+
+    TokenRevocationList(int expectedEntries, long accessTokenMillis, LongSupplier clock) {
+        this.expectedEntries = expectedEntries;
+        this.accessTokenMillis = accessTokenMillis;
+        this.clock = clock;
+        this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    private void start() {
+        purger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "token-revocation-purger");
+            t.setDaemon(true);
+            return t;
+        });
+        purger.scheduleWithFixedDelay(this::purgeExpired, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    private void stop() {
+        purger.shutdownNow();
+    }
+
+    /**
+     * 토큰 하나를 무효화
+     * @param expiresAt - 토큰 만료시각 (이후에는 목록에서 제거)
+     * @return - 이미 무효화된 토큰이면 false (같은 refresh 토큰의 동시 사용 방지)
+     */
+    public boolean revokeToken(String tokenId, Instant expiresAt) {
+        lock.lock();
+        try {
+            boolean added = revokedTokens.putIfAbsent(tokenId, expiresAt.toEpochMilli()) == null;
+            if (added) filter.put(tokenId);
+            return added;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 회원에게 cutoff 이전에 발급된 access 토큰을 모두 무효화 (DB 기록은 UserTokenCutoffStore)
+    public void revokeUserTokensIssuedBefore(String userId, Instant cutoff) {
+        lock.lock();
+        try {
+            revokedUsers.merge(userId, cutoff.toEpochMilli(), Math::max);
+            filter.put(USER_KEY_PREFIX + userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId) && revokedTokens.containsKey(tokenId);
+    }
+
+    /**
+     * access 토큰 무효 여부
+     * @param issuedAt - 토큰 발급시각 (epoch millis)
+     */
+    public boolean isRevoked(String userId, String tokenId, long issuedAt) {
+        if (isRevoked(tokenId)) return true;
+
+        if (!filter.mightContain(USER_KEY_PREFIX + userId)) return false;
+        Long cutoff = revokedUsers.get(userId);
+        return cutoff != null && issuedAt < cutoff;
+    }
+
+    // 만료된 토큰의 항목을 지우고, 지운 항목이 있으면 남은 항목으로 필터를 다시 만든다.
+    void purgeExpired() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            long userCutoff = now - accessTokenMillis;
+
+            boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+            removed |= revokedUsers.values().removeIf(cutoff -> cutoff <= userCutoff);
+            if (!removed) return;
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, size()), FALSE_POSITIVE_RATE);
+            revokedTokens.keySet().forEach(rebuilt::put);
+            revokedUsers.keySet().forEach(userId -> rebuilt.put(USER_KEY_PREFIX + userId));
+            filter = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.token.revocations", this, TokenRevocationList::size)
+                .description("만료 전에 무효화된 토큰, 회원 수")
+                .register(registry);
+    }
+}
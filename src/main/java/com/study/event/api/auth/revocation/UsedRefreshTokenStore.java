@@ -0,0 +1,88 @@
+package com.study.event.api.auth.revocation;
+
+import com.study.event.api.event.repository.UsedRefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 사용한 refresh 토큰 기록 (refresh 토큰은 한 번만 사용할 수 있다.)
+// DB(tbl_used_refresh_token)에 기록하므로 서버가 여러 대이거나 재시작해도 재사용을 막고,
+// TokenRevocationList 를 캐시로 사용하여 이 서버에서 이미 사용된 토큰은 DB 를 확인하지 않는다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UsedRefreshTokenStore {
+
+    private final UsedRefreshTokenRepository usedRefreshTokenRepository;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    // 한 번에 삭제할 최대 행 수 (긴 잠금을 피하기 위해 나누어 삭제)
+    @Value("${jwt.refresh.purge.batch-size:500}")
+    private int purgeBatchSize = 500;
+
+    @Value("${jwt.refresh.purge.interval-minutes:10}")
+    private long purgeIntervalMinutes = 10;
+
+    private ScheduledExecutorService purger;
+
+    @PostConstruct
+    private void start() {
+        purger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "used-refresh-token-purger");
+            t.setDaemon(true);
+            return t;
+        });
+        purger.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalMinutes, purgeIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    private void stop() {
+        purger.shutdownNow();
+    }
+
+    /**
+     * refresh 토큰을 사용한 것으로 기록
+     * @param expiresAt - 토큰 만료시각 (이후에는 기록을 지운다.)
+     * @return - 이미 사용된 토큰이면 false
+     */
+    public boolean markUsed(String tokenId, Instant expiresAt) {
+        if (tokenRevocationList.isRevoked(tokenId)) return false;
+
+        boolean first = usedRefreshTokenRepository.markUsed(tokenId,
+                LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+
+        // 성공, 실패 모두 이후 요청은 메모리에서 바로 거절
+        tokenRevocationList.revokeToken(tokenId, expiresAt);
+        return first;
+    }
+
+    // 만료된 토큰 기록을 배치 크기씩 나누어 삭제 (배치마다 커밋)
+    void purgeExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            int deleted;
+            do {
+                deleted = usedRefreshTokenRepository.deleteExpired(now, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+
+            if (total > 0) {
+                log.info("{} expired refresh token records purged", total);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 refresh 토큰 기록 삭제 실패", e);
+        }
+    }
+}
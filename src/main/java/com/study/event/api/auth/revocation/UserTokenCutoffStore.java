@@ -0,0 +1,126 @@
+package com.study.event.api.auth.revocation;
+
+import com.study.event.api.event.entity.UserTokenCutoff;
+import com.study.event.api.event.repository.UserTokenCutoffRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 회원 단위 access 토큰 무효화 (등급 변경 등)
+// DB(tbl_user_token_cutoff)에 기준시각을 기록하고, 각 서버는 주기적으로 최근 기록을 읽어 TokenRevocationList 에 반영한다.
+// 요청마다 DB 를 조회하지 않으므로 다른 서버에는 동기화 주기만큼 늦게 반영되고, 기록한 서버에는 커밋 직후 반영된다.
+@Component
+@Slf4j
+public class UserTokenCutoffStore {
+
+    private final UserTokenCutoffRepository userTokenCutoffRepository;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    // access 토큰 유효시간 - 이보다 오래된 기준시각은 남은 토큰이 없으므로 필요 없다.
+    private final long accessTokenMillis;
+
+    // 다른 서버의 기록을 읽어오는 주기
+    @Value("${jwt.revocation.sync-seconds:5}")
+    private long syncSeconds = 5;
+
+    // 한 번에 삭제할 최대 행 수 (긴 잠금을 피하기 위해 나누어 삭제)
+    @Value("${jwt.revocation.purge.batch-size:500}")
+    private int purgeBatchSize = 500;
+
+    private ScheduledExecutorService syncer;
+
+    public UserTokenCutoffStore(UserTokenCutoffRepository userTokenCutoffRepository,
+                                TokenRevocationList tokenRevocationList,
+                                @Value("${jwt.access-token-minutes:15}") long accessTokenMinutes) {
+        this.userTokenCutoffRepository = userTokenCutoffRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.accessTokenMillis = TimeUnit.MINUTES.toMillis(accessTokenMinutes);
+    }
+
+    // 시작하자마자 한 번 읽어오므로 재시작 전에 무효화한 토큰도 계속 거절된다.
+    @PostConstruct
+    private void start() {
+        syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "user-token-cutoff-sync");
+            t.setDaemon(true);
+            return t;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, 0, syncSeconds, TimeUnit.SECONDS);
+        syncer.scheduleWithFixedDelay(this::purgeExpired, 10, 10, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    private void stop() {
+        syncer.shutdownNow();
+    }
+
+    /**
+     * 회원에게 cutoff 이전에 발급된 access 토큰을 모두 무효화
+     * 기록은 호출한 트랜잭션과 함께 커밋되고, 메모리 목록에는 커밋된 뒤에 반영한다. (롤백되면 무효화하지 않음)
+     * @param cutoff - 새 토큰을 발급하기 전의 시각 (이후 발급한 토큰은 유효)
+     */
+    public void revokeUserTokensIssuedBefore(String userId, Instant cutoff) {
+        userTokenCutoffRepository.revokeIssuedBefore(userId, LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()));
+        afterCommit(() -> tokenRevocationList.revokeUserTokensIssuedBefore(userId, cutoff));
+    }
+
+    // 아직 유효한 access 토큰이 있을 수 있는 기록을 모두 읽어 반영 (이미 반영한 기록은 다시 넣어도 결과가 같다.)
+    // 복제 DB 에서 읽어도 기록은 토큰 유효시간 동안 계속 읽히므로 복제 지연만큼 늦게 반영될 뿐 빠지지 않는다.
+    void sync() {
+        try {
+            Instant since = Instant.now().minusMillis(accessTokenMillis);
+            for (UserTokenCutoff found : userTokenCutoffRepository.findByCutoffAfter(
+                    LocalDateTime.ofInstant(since, ZoneId.systemDefault()))) {
+                tokenRevocationList.revokeUserTokensIssuedBefore(found.getUserId(),
+                        found.getCutoff().atZone(ZoneId.systemDefault()).toInstant());
+            }
+        } catch (RuntimeException e) {
+            log.warn("회원 토큰 무효화 기록 동기화 실패", e);
+        }
+    }
+
+    // 토큰 유효시간이 지난 기록을 배치 크기씩 나누어 삭제 (배치마다 커밋)
+    void purgeExpired() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(accessTokenMillis, ChronoUnit.MILLIS);
+            int total = 0;
+            int deleted;
+            do {
+                deleted = userTokenCutoffRepository.deleteExpired(before, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+
+            if (total > 0) {
+                log.info("{} expired user token cutoffs purged", total);
+            }
+        } catch (RuntimeException e) {
+            log.warn("지난 회원 토큰 무효화 기록 삭제 실패", e);
+        }
+    }
+
+    private void afterCommit(Runnable revocation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revocation.run();
+                }
+            });
+        } else {
+            revocation.run();
+        }
+    }
+}
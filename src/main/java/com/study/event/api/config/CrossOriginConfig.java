@@ -1,15 +1,25 @@
 package com.study.event.api.config;
 
+import com.study.event.api.querybudget.QueryBudgetFilter;
+import com.study.event.api.querybudget.QueryBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 // 전역 크로스 오리진 설정: 어떤 클라이언트를 허용할 것인지
+// 웹 서버 기본 설정(프록시 헤더 처리 등)은 server.properties
 @Configuration
+@PropertySource("classpath:server.properties")
+@RequiredArgsConstructor
 public class CrossOriginConfig implements WebMvcConfigurer {
 
+    // 컨트롤러별 SQL 허용 개수(@QueryBudget) 설정
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
     private String[] urls = {
             "http://localhost:3000",
             "http://localhost:3001",
@@ -28,7 +38,13 @@ public class CrossOriginConfig implements WebMvcConfigurer {
                 .allowedMethods("*") // 어떤 방식에서
                 .allowedHeaders("*") // 어떤 헤더를 허용할지
                 .allowCredentials(true) // 쿠키 전송을 허용할지
+                .exposedHeaders(QueryBudgetFilter.QUERY_COUNT_HEADER, "Server-Timing") // 클라이언트가 읽을 수 있는 응답 헤더
         ;
 
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetInterceptor);
+    }
 }
\ No newline at end of file
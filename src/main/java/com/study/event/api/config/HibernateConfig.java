@@ -0,0 +1,36 @@
+package com.study.event.api.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// application.yml 과 별도로 코드에서 지정하는 Hibernate 설정
+// 스키마는 Flyway 마이그레이션(db/migration)으로 관리한다. (기본 설정은 database.properties)
+@Configuration
+@PropertySource("classpath:database.properties")
+public class HibernateConfig {
+
+    // 한 번에 모아서 보낼 insert/update 개수 (Event 의 시퀀스 allocationSize 와 맞춤)
+    public static final int JDBC_BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer() {
+        return properties -> {
+            // JDBC 배치 사용 - 같은 테이블의 insert 끼리 모아서 전송
+            properties.put("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+
+            // 쿼리 수, 2차 캐시 적중률 등 통계 수집 (hibernate-micrometer 가 메트릭으로 노출)
+            properties.put("hibernate.generate_statistics", true);
+
+            // 2차 캐시 - @Cache 가 붙은 엔터티만 캐시 (EventUser)
+            // 캐시 구현은 로컬 메모리의 Caffeine (영역별 크기, 만료시간은 application.conf)
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.provider", "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.event.api.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// 메트릭 설정
+// HTTP 요청, 커넥션풀(HikariCP), 톰캣 스레드, Hibernate 통계는 스프링 부트가 자동으로 수집하고
+// 서비스 메서드(@Timed), S3, SMTP, 캐시, 비밀번호 암호화 스레드풀은 각 클래스에서 등록한다.
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    // 클래스에 @Timed 가 붙은 빈의 public 메서드 실행 시간 측정
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.study.event.api.config;
+
+import com.study.event.api.auth.TokenProvider.TokenUserInfo;
+import com.study.event.api.datasource.ReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 복제(replica) DB 설정 - datasource.replica.urls 가 있을 때만 사용
+// spring.datasource.* 는 그대로 primary 로 쓰고, 읽기 전용 트랜잭션만 복제 DB 로 보낸다.
+//
+// 예) datasource.replica.urls=jdbc:mariadb://replica1:3306/eventdb,jdbc:mariadb://replica2:3306/eventdb
+//     datasource.replica.username, password 를 생략하면 primary 계정을 사용
+//     datasource.replica.hikari.* 로 복제 DB 커넥션 풀만 따로 설정 가능 (maximum-pool-size 등)
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "urls")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(
+            DataSourceProperties properties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${datasource.replica.urls}") String[] urls,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            // 이보다 지연된 복제 DB 는 사용하지 않음
+            @Value("${datasource.replica.max-lag-seconds:3}") long maxLagSeconds,
+            // 쓰기 후 같은 회원의 읽기를 primary 로 보내는 시간 (max-lag-seconds + check-interval-seconds 이상 권장)
+            @Value("${datasource.replica.sticky-seconds:10}") long stickySeconds,
+            @Value("${datasource.replica.check-interval-seconds:5}") long checkIntervalSeconds) {
+
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        meterRegistry.ifAvailable(primary::setMetricRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) continue;
+
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(StringUtils.hasText(username) ? username : properties.determineUsername())
+                    .password(StringUtils.hasText(password) ? password : properties.determinePassword())
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+
+            String name = "replica-" + (replicas.size() + 1);
+            replica.setPoolName(name);
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.put(name, replica);
+        }
+
+        ReplicaRouter router = new ReplicaRouter(primary, replicas, maxLagSeconds,
+                Duration.ofSeconds(stickySeconds), Duration.ofSeconds(checkIntervalSeconds),
+                ReplicaDataSourceConfig::currentClient);
+        router.start();
+        return router;
+    }
+
+    // JPA, QueryDSL, p6spy 가 사용하는 DataSource (DataSourceAutoConfiguration 대신)
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return replicaRouter.getDataSource();
+    }
+
+    // 읽기 고정(read-your-writes) 대상 - 로그인 회원은 회원 PK, 비로그인(회원가입 등)은 IP
+    private static String currentClient() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof TokenUserInfo) {
+            return "user:" + ((TokenUserInfo) auth.getPrincipal()).getUserId();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return "ip:" + ((ServletRequestAttributes) attributes).getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
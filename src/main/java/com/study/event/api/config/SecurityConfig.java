@@ -1,7 +1,12 @@
 package com.study.event.api.config;
 
+import com.study.event.api.auth.filter.AuthRateLimitFilter;
 import com.study.event.api.auth.filter.JwtAuthFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -26,10 +31,13 @@ public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
 
+    private final AuthRateLimitFilter authRateLimitFilter;
+
     // 비밀번호 암호화 객체 컨테이너에 등록 (스프링에게 주입받는 설정)
+    // strength(work factor) 를 올리면 기존 회원은 다음 로그인 때 새 설정으로 다시 암호화된다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // 시큐리티 설정 (스프링 부트 2.7버전 이전 인터페이스를 통해 오버라이딩)
@@ -58,6 +66,9 @@ public class SecurityConfig {
                 .antMatchers(HttpMethod.PUT, "/auth/promote").hasAnyAuthority("COMMON") // 이걸  .antMatchers("/", "/auth/**").permitAll() 아래에 놓으면 안됨.
 
                 // 아래의 URL 요청은 모두 허용
+                // 헬스체크, 프로메테우스 수집 - 관리 포트(management.server.port)로 들어온 요청만 일치한다.
+                // 서비스 포트에는 actuator 가 없으므로 외부에서는 호출할 수 없다.
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                 .antMatchers("/", "/auth/**", "/file/**").permitAll() // "/auth/**" -- 모든 사용자가 로그인, 중복확인 등등 접근 가능
                 // .antMatchers(HttpMethod.POST, "/events/**").hasAnyRole("VIP", "ADMIN") // 특정 권한만 접근가능
                 
@@ -69,6 +80,9 @@ public class SecurityConfig {
         // CorsFilter(Spring 필터) 뒤에 커스텀 필터를 연결
         http.addFilterAfter(jwtAuthFilter, CorsFilter.class);
 
+        // /auth 요청 횟수 제한 필터는 토큰 검사보다 먼저 실행 (CORS 헤더는 붙은 상태로 429 응답)
+        http.addFilterBefore(authRateLimitFilter, JwtAuthFilter.class);
+
         return http.build();
     }
 }
@@ -0,0 +1,28 @@
+package com.study.event.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 코드로 트랜잭션 범위를 직접 지정할 때 사용하는 TransactionTemplate 설정
+// 캐시 조회처럼 트랜잭션을 꼭 필요한 구간에만 열고 싶을 때 @Transactional 대신 사용한다.
+@Configuration
+public class TransactionConfig {
+
+    // 기본 (읽기/쓰기) 트랜잭션
+    @Bean
+    @Primary
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    // 읽기 전용 트랜잭션 - Hibernate 가 스냅샷 저장과 변경감지(dirty checking)를 하지 않는다.
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
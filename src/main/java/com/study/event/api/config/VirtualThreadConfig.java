@@ -0,0 +1,25 @@
+package com.study.event.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+// 가상 스레드(Java 21) 요청 처리 모드
+// server.virtual-threads.enabled=true 일 때만 동작하며, 톰캣이 요청마다 가상 스레드를 만들어 처리한다.
+// JDBC, SMTP, S3, BCrypt 처럼 요청 스레드를 붙잡는 작업이 많아도 톰캣 스레드 풀 크기에 처리량이 묶이지 않는다.
+// 요청 경로의 잠금은 synchronized 대신 ReentrantLock 을 사용한다. (synchronized 안에서 대기하면 캐리어 스레드에 고정됨)
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "server.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("톰캣 요청을 가상 스레드로 처리합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
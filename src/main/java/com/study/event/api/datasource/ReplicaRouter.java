@@ -0,0 +1,246 @@
+package com.study.event.api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 복제(replica) DB 로 보내는 라우터
+// - 주기적으로 복제 DB 에 접속해 복제 지연(Seconds_Behind_Master)을 확인하고
+//   접속할 수 없거나 지연이 허용치를 넘은 복제 DB 는 건너뛴다. (사용할 복제 DB 가 없으면 primary)
+// - 읽기/쓰기 트랜잭션을 커밋한 회원(비로그인은 IP)은 잠시 동안 읽기도 primary 에서 하여
+//   방금 자신이 변경한 내용이 복제 지연 때문에 안 보이는 일이 없도록 한다. (read-your-writes)
+@Slf4j
+public class ReplicaRouter implements MeterBinder, Closeable {
+
+    static final String PRIMARY = "primary";
+
+    // 상태 확인 쿼리 제한 시간
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final long maxLagSeconds;
+
+    private final Duration checkInterval;
+
+    // 현재 요청의 회원(또는 클라이언트) 식별값, 알 수 없으면 null
+    private final Supplier<String> clientKey;
+
+    // 최근에 쓰기를 한 클라이언트 (만료 전까지 primary 에서 읽음)
+    private final Cache<String, Boolean> stickyClients;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    // 실제로 주입되는 DataSource
+    // 트랜잭션 시작시점에는 아직 readOnly 여부가 정해지지 않았으므로 첫 SQL 을 실행할 때 커넥션을 고른다.
+    private final DataSource dataSource;
+
+    private ScheduledExecutorService checker;
+
+    /**
+     * @param replicas - 이름 => 복제 DB
+     * @param maxLagSeconds - 이보다 지연된 복제 DB 는 사용하지 않음
+     * @param stickyDuration - 쓰기 후 primary 에서 읽는 시간 (복제 지연 허용치보다 길게)
+     */
+    public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas,
+                         long maxLagSeconds, Duration stickyDuration, Duration checkInterval,
+                         Supplier<String> clientKey) {
+        this.primary = primary;
+        replicas.forEach((name, ds) -> this.replicas.add(new Replica(name, ds)));
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkInterval = checkInterval;
+        this.clientKey = clientKey;
+        this.stickyClients = Caffeine.newBuilder()
+                .expireAfterWrite(stickyDuration)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(r -> targets.put(r.name, r.dataSource));
+
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return route();
+            }
+        };
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        this.dataSource = new LazyConnectionDataSourceProxy(routing);
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    // 복제 DB 상태 확인 시작 (첫 확인 전까지는 모든 요청이 primary 로 간다.)
+    public void start() {
+        checker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-health-check");
+            t.setDaemon(true);
+            return t;
+        });
+        checker.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (checker != null) checker.shutdownNow();
+        closeQuietly(primary);
+        replicas.forEach(r -> closeQuietly(r.dataSource));
+    }
+
+    // 현재 스레드의 트랜잭션이 사용할 DataSource 이름
+    String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickAfterCommit();
+            return PRIMARY;
+        }
+
+        String key = clientKey.get();
+        if (key != null && stickyClients.getIfPresent(key) != null) {
+            return PRIMARY;
+        }
+
+        Replica replica = nextAvailable();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    // 읽기/쓰기 트랜잭션이 커밋되면 같은 클라이언트의 읽기를 잠시 primary 로 고정
+    private void stickAfterCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        String key = clientKey.get();
+        if (key == null) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyClients.put(key, Boolean.TRUE);
+            }
+        });
+    }
+
+    // 사용 가능한 복제 DB 를 돌아가며 선택
+    private Replica nextAvailable() {
+        int size = replicas.size();
+        if (size == 0) return null;
+
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) return replica;
+        }
+        return null;
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                replica.update(measureLag(replica.dataSource), maxLagSeconds, null);
+            } catch (SQLException | RuntimeException e) {
+                replica.update(null, maxLagSeconds, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 복제 지연 시간(초)
+     * 복제 설정이 없는 DB (로컬에서 띄운 두 번째 인스턴스 등)는 지연이 없는 것으로 본다.
+     * 복제 계정에 REPLICATION CLIENT (MariaDB 10.5.9 이상은 SLAVE MONITOR) 권한이 필요하다.
+     * @return - 복제가 멈춘 경우 null
+     */
+    private Long measureLag(DataSource replica) throws SQLException {
+        try (Connection con = replica.getConnection();
+             Statement stmt = con.createStatement()) {
+            stmt.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery("SHOW SLAVE STATUS")) {
+                if (!rs.next()) return 0L;
+                long lag = rs.getLong("Seconds_Behind_Master");
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("복제 지연 시간 (확인할 수 없으면 -1)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    private void closeQuietly(DataSource ds) {
+        if (!(ds instanceof Closeable)) return;
+        try {
+            ((Closeable) ds).close();
+        } catch (IOException e) {
+            log.warn("DataSource close failed", e);
+        }
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+
+        private volatile boolean available = false;
+        private volatile long lagSeconds = -1;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void update(Long lag, long maxLagSeconds, String error) {
+            boolean nowAvailable = lag != null && lag <= maxLagSeconds;
+            this.lagSeconds = lag != null ? lag : -1;
+
+            if (nowAvailable != available) {
+                if (nowAvailable) {
+                    log.info("replica {} is available (lag {}s)", name, lag);
+                } else {
+                    log.warn("replica {} is unavailable, reading from primary (lag {}s, max {}s) {}",
+                            name, lagSeconds, maxLagSeconds, error != null ? error : "");
+                }
+            }
+            this.available = nowAvailable;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.study.event.api.event.cache;
+
+import java.util.Locale;
+
+// JSON 으로 직렬화한 응답 본문과 미리 압축해 둔 gzip, brotli 본문
+// 캐시에 저장해 두고 요청마다 직렬화, 압축을 다시 하지 않는다.
+public class EncodedResponse {
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private final byte[] identity;
+    private final byte[] gzip;   // 압축하지 않은 경우 null
+    private final byte[] brotli; // 압축하지 않았거나 brotli 를 사용할 수 없는 경우 null
+
+    EncodedResponse(byte[] identity, byte[] gzip, byte[] brotli) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.brotli = brotli;
+    }
+
+    /**
+     * 응답에 사용할 약한(W/) ETag
+     * 같은 내용이라도 인코딩(br, gzip, 압축 안 함)마다 본문 바이트가 다르므로 강한 ETag 를 함께 쓰면 안 된다.
+     * 캐시는 Vary: Accept-Encoding 으로 인코딩별로 따로 저장한다.
+     */
+    public static String weakEtag(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+
+    /**
+     * 클라이언트의 Accept-Encoding 에 맞는 인코딩 선택 (brotli > gzip > 압축 안 함)
+     * @return - br, gzip 또는 압축하지 않는 경우 null
+     */
+    public String selectEncoding(String acceptEncoding) {
+        if (brotli != null && accepts(acceptEncoding, BROTLI)) return BROTLI;
+        if (gzip != null && accepts(acceptEncoding, GZIP)) return GZIP;
+        return null;
+    }
+
+    // selectEncoding 으로 고른 인코딩의 본문
+    public byte[] body(String encoding) {
+        if (BROTLI.equals(encoding)) return brotli;
+        if (GZIP.equals(encoding)) return gzip;
+        return identity;
+    }
+
+    // 캐시 용량 계산용 전체 바이트 수
+    int weight() {
+        return identity.length
+                + (gzip == null ? 0 : gzip.length)
+                + (brotli == null ? 0 : brotli.length);
+    }
+
+    // "gzip, deflate, br" 또는 "br;q=1.0, gzip;q=0.8, *;q=0.1" 형식 (q=0 은 거부)
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) return false;
+
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals(coding) && !name.equals("*")) continue;
+
+            double q = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equals(coding)) return q > 0;
+            if (q > 0) return true; // 명시되지 않은 인코딩은 * 의 q 값을 따른다.
+        }
+        return false;
+    }
+}
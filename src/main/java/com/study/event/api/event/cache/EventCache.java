@@ -0,0 +1,214 @@
+package com.study.event.api.event.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.study.event.api.event.dto.response.EventOneDto;
+import com.study.event.api.event.repository.EventListVersion;
+import com.study.event.api.event.repository.EventVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 이벤트 목록 페이지와 단일 이벤트 조회 결과를 보관하는 로컬 캐시
+// 개수(max-size)와 시간(ttl-seconds)을 넘으면 자동으로 제거된다.
+@Component
+@Slf4j
+public class EventCache implements MeterBinder {
+
+    // 모든 캐시 키에는 회원(목록) 또는 이벤트(단일)의 세대 번호가 들어간다.
+    private final Cache<String, Map<String, Object>> pageCache;
+    private final Cache<String, EventOneDto> detailCache;
+
+    // 조건부 요청(ETag) 확인용 버전 - 목록, 단일 캐시와 같은 시점에 무효화된다.
+    private final Cache<String, EventListVersion> listVersionCache;
+    private final Cache<String, EventVersion> detailVersionCache;
+
+    // 직렬화, 압축까지 끝난 응답 본문 (단일 조회, 목록 첫 페이지)
+    // 개수 대신 전체 바이트 수(encoded-max-bytes)로 크기를 제한한다.
+    private final Cache<String, EncodedResponse> encodedPageCache;
+    private final Cache<String, EncodedResponse> encodedDetailCache;
+
+    // 회원("u:회원PK"), 이벤트("e:이벤트PK")별 현재 세대 번호
+    // 데이터가 바뀌면 세대를 올려 이전 세대 키로 저장된 항목을 더 이상 읽지 않는다.
+    // 커밋 전에 시작된 조회가 커밋 후에 이전 데이터를 저장하더라도 이전 세대 키에 들어가므로
+    // 다음 조회는 새 세대 키로 다시 읽는다. (이전 세대 항목은 TTL, 크기 제한으로 제거됨)
+    private final Cache<String, Long> generations;
+
+    // 세대 번호는 전체에서 겹치지 않게 발급하므로, 세대 항목이 크기 제한으로 밀려나도
+    // 새로 받은 번호가 이전 세대 키와 같아지지 않는다.
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    public EventCache(
+            @Value("${event.cache.max-size:10000}") long maxSize,
+            @Value("${event.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${event.cache.encoded-max-bytes:33554432}") long encodedMaxBytes) {
+
+        this.pageCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        this.listVersionCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        this.detailVersionCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        this.encodedPageCache = Caffeine.newBuilder()
+                .maximumWeight(encodedMaxBytes / 2)
+                .weigher((String key, EncodedResponse value) -> value.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        this.encodedDetailCache = Caffeine.newBuilder()
+                .maximumWeight(encodedMaxBytes / 2)
+                .weigher((String key, EncodedResponse value) -> value.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 목록 페이지를 캐시에서 조회하고 없으면 loader 로 읽어와 저장
+     * @param loader - 캐시에 없을 때 DB 에서 읽어오는 함수
+     */
+    public Map<String, Object> getPage(String userId, String sort, int pageNo,
+                                       Supplier<Map<String, Object>> loader) {
+        return load(pageCache, userKey(userId) + sort + ":" + pageNo,
+                () -> Collections.unmodifiableMap(loader.get()));
+    }
+
+    public EventOneDto getDetail(Long eventId, Supplier<EventOneDto> loader) {
+        return load(detailCache, eventKey(eventId), loader);
+    }
+
+    // 목록 첫 페이지의 직렬화, 압축된 응답 본문
+    public EncodedResponse getEncodedFirstPage(String userId, String sort, Supplier<EncodedResponse> loader) {
+        return load(encodedPageCache, userKey(userId) + sort, loader);
+    }
+
+    public EncodedResponse getEncodedDetail(Long eventId, Supplier<EncodedResponse> loader) {
+        return load(encodedDetailCache, eventKey(eventId), loader);
+    }
+
+    // 회원의 이벤트 목록 버전과 전체 개수 (loader 가 null 을 리턴하면 저장하지 않음)
+    public EventListVersion getListVersion(String userId, Supplier<EventListVersion> loader) {
+        return load(listVersionCache, userKey(userId), loader);
+    }
+
+    public EventVersion getDetailVersion(Long eventId, Supplier<EventVersion> loader) {
+        return load(detailVersionCache, eventKey(eventId), loader);
+    }
+
+    // loader(DB 조회)는 캐시의 잠금 밖에서 실행한다.
+    // Cache.get(key, loader) 는 ConcurrentHashMap.compute 의 synchronized 안에서 loader 를 실행하므로
+    // 가상 스레드가 DB 응답을 기다리는 동안 캐리어 스레드에 고정된다. (같은 키를 동시에 조회하면 중복 조회될 수 있음)
+    private static <V> V load(Cache<String, V> cache, String key, Supplier<V> loader) {
+        V value = cache.getIfPresent(key);
+        if (value != null) return value;
+
+        value = loader.get();
+        if (value != null) cache.put(key, value);
+        return value;
+    }
+
+    // 해당 회원의 모든 목록 페이지 무효화 (등록, 수정, 삭제로 목록 내용이 바뀐 경우)
+    public void evictPages(String userId) {
+        afterCommit(() -> nextGeneration("u:" + userId));
+    }
+
+    // 단일 이벤트 무효화
+    public void evictDetail(Long eventId) {
+        afterCommit(() -> nextGeneration("e:" + eventId));
+    }
+
+    // 프로메테우스 메트릭 (cache.gets, cache.evictions 등, cache 태그로 구분)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pageCache, "event.pages");
+        CaffeineCacheMetrics.monitor(registry, detailCache, "event.details");
+        CaffeineCacheMetrics.monitor(registry, encodedPageCache, "event.encoded.pages");
+        CaffeineCacheMetrics.monitor(registry, encodedDetailCache, "event.encoded.details");
+    }
+
+    // 캐시 적중/실패/제거 횟수
+    public Map<String, Object> stats() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("pages", statsOf(pageCache.stats(), pageCache.estimatedSize()));
+        map.put("details", statsOf(detailCache.stats(), detailCache.estimatedSize()));
+        map.put("encodedPages", statsOf(encodedPageCache.stats(), encodedPageCache.estimatedSize()));
+        map.put("encodedDetails", statsOf(encodedDetailCache.stats(), encodedDetailCache.estimatedSize()));
+        return map;
+    }
+
+    private Map<String, Object> statsOf(CacheStats stats, long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("evictionCount", stats.evictionCount());
+        map.put("hitRate", stats.hitRate());
+        return map;
+    }
+
+    // "회원PK:세대:" 로 시작하는 목록 캐시 키
+    private String userKey(String userId) {
+        return userId + ":" + generation("u:" + userId) + ":";
+    }
+
+    private String eventKey(Long eventId) {
+        return eventId + ":" + generation("e:" + eventId);
+    }
+
+    private long generation(String owner) {
+        return generations.get(owner, key -> generationSequence.incrementAndGet());
+    }
+
+    private void nextGeneration(String owner) {
+        generations.put(owner, generationSequence.incrementAndGet());
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 제거한다.
+    // (커밋 전에 지우면 다른 요청이 변경 전 데이터를 다시 캐시에 올릴 수 있음)
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
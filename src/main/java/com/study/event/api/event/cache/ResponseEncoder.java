@@ -0,0 +1,73 @@
+package com.study.event.api.event.cache;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// 응답 객체를 JSON 으로 직렬화하고 gzip, brotli 로 미리 압축
+// 캐시에 없으면 요청 스레드에서 압축하므로 압축률보다 속도를 우선한 중간 설정을 사용한다.
+@Component
+@Slf4j
+public class ResponseEncoder {
+
+    // 이보다 작은 응답은 압축해도 헤더 비용만 늘어나므로 그대로 보낸다.
+    private static final int MIN_COMPRESS_SIZE = 256;
+
+    private static final int BROTLI_QUALITY = 5;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean brotliAvailable;
+
+    public ResponseEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            log.warn("brotli 네이티브 라이브러리를 불러오지 못해 gzip 만 사용합니다.", Brotli4jLoader.getUnavailabilityCause());
+        }
+    }
+
+    // 스프링 MVC 와 같은 ObjectMapper 를 사용하므로 @JsonFormat 등 응답 형식이 동일하다.
+    public EncodedResponse encode(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 JSON 으로 변환하지 못했습니다.", e);
+        }
+
+        if (json.length < MIN_COMPRESS_SIZE) {
+            return new EncodedResponse(json, null, null);
+        }
+        return new EncodedResponse(json, gzip(json), brotliAvailable ? brotli(json) : null);
+    }
+
+    private byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) { // Deflater.DEFAULT_COMPRESSION (6)
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] brotli(byte[] data) {
+        try {
+            return Encoder.compress(data, new Encoder.Parameters()
+                    .setQuality(BROTLI_QUALITY)
+                    .setMode(Encoder.Mode.TEXT));
+        } catch (IOException e) {
+            log.warn("brotli 압축 실패", e);
+            return null;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.study.event.api.event.controller;
 
 import com.study.event.api.auth.TokenProvider;
+import com.study.event.api.event.cache.EncodedResponse;
+import com.study.event.api.event.cache.EventCache;
+import com.study.event.api.event.cache.ResponseEncoder;
 import com.study.event.api.event.dto.request.EventSaveDto;
-import com.study.event.api.event.dto.response.EventOneDto;
+import com.study.event.api.event.repository.EventListVersion;
+import com.study.event.api.event.repository.EventVersion;
+import com.study.event.api.event.service.EventExportService;
+import com.study.event.api.event.service.EventImportService;
 import com.study.event.api.event.service.EventService;
+import com.study.event.api.exception.EventImportException;
+import com.study.event.api.querybudget.QueryBudget;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.Map;
 
 import static com.study.event.api.auth.TokenProvider.*;
@@ -22,16 +38,30 @@ import static com.study.event.api.auth.TokenProvider.*;
 @Slf4j
 public class EventController {
 
+    // 브라우저가 응답을 저장하되 매번 ETag 로 변경 여부를 확인하도록 (로그인한 회원 전용 데이터이므로 private)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final EventService eventService;
 
+    private final EventCache eventCache;
+
+    private final EventImportService eventImportService;
+
+    private final EventExportService eventExportService;
+
+    private final ResponseEncoder responseEncoder;
+
     // 전체 조회 요청
     @SneakyThrows
     @GetMapping("/page/{pageNo}")
+    @QueryBudget(2) // 목록 버전(ETag)과 전체 개수(회원 행 1번) + 목록
     public ResponseEntity<?> getList(
             // 토큰 파싱 결과로 로그인에 성공한 회원의 PK
             @AuthenticationPrincipal TokenUserInfo tokenInfo,
             @RequestParam(required = false) String sort,
-            @PathVariable int pageNo) throws InterruptedException {
+            @PathVariable int pageNo,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) throws InterruptedException {
 
         log.info("tokenInfo: {}", tokenInfo);
 
@@ -39,17 +69,77 @@ public class EventController {
             return ResponseEntity.badRequest().body("sort 파라미터가 없습니다.");
         }
 
-        Map<String, Object> events = eventService.getEvents(pageNo, sort, tokenInfo.getUserId());
+        // 목록이 바뀌지 않았으면 이벤트를 조회하지 않고 304 응답
+        // 같은 브라우저에서 다른 회원으로 로그인한 경우를 구분하기 위해 회원 PK 를 포함한다.
+        String userId = tokenInfo.getUserId();
+        EventListVersion listVersion = eventService.getEventListVersion(userId);
+        if (listVersion != null && webRequest.checkNotModified(EncodedResponse.weakEtag("l" + userId + "-" + listVersion.getVersion()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+
+        // 가장 많이 조회되는 첫 페이지는 직렬화, 압축된 응답 본문을 캐시에서 바로 전송
+        if (pageNo == 1) {
+            EncodedResponse firstPage = eventCache.getEncodedFirstPage(userId, sort,
+                    () -> responseEncoder.encode(eventService.getEvents(1, sort, userId)));
+            return encoded(firstPage, acceptEncoding);
+        }
+
+        Map<String, Object> events = eventService.getEvents(pageNo, sort, userId);
 
         // 의도적으로 2초간의 로딩을 설정
 //        Thread.sleep(2000);
 
-        return ResponseEntity.ok().body(events);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(events);
     }
 
     // PostMan
     // Get, http://localhost:8282/events/page/2?sort=date (2가 페이지번호, sort=date 필수)
 
+    // 커서 기반 목록 조회 요청 (무한 스크롤용)
+    @GetMapping("/cursor")
+    @QueryBudget(1)
+    public ResponseEntity<?> getListByCursor(
+            @AuthenticationPrincipal TokenUserInfo tokenInfo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor) {
+
+        if (!"date".equals(sort) && !"title".equals(sort)) {
+            return ResponseEntity.badRequest().body("sort 파라미터는 date 또는 title 이어야 합니다.");
+        }
+
+        try {
+            Map<String, Object> events = eventService.getEventsByCursor(cursor, sort, tokenInfo.getUserId());
+            return ResponseEntity.ok().body(events);
+
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // PostMan
+    // Get, http://localhost:8282/events/cursor?sort=date (첫 페이지)
+    // Get, http://localhost:8282/events/cursor?sort=date&cursor=응답의 nextCursor 또는 prevCursor 값
+
+    // 제목, 설명 검색 요청
+    @GetMapping("/search")
+    @QueryBudget(2) // 검색 결과 이벤트 조회 (색인을 사용할 수 없으면 DB 검색 + 개수 조회)
+    public ResponseEntity<?> search(
+            @AuthenticationPrincipal TokenUserInfo tokenInfo,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "1") int page) {
+
+        if (q == null || q.isBlank() || page < 1) {
+            return ResponseEntity.badRequest().body("q 파라미터가 없거나 page 가 올바르지 않습니다.");
+        }
+
+        Map<String, Object> events = eventService.searchEvents(q, page, tokenInfo.getUserId());
+        return ResponseEntity.ok().body(events);
+    }
+
+    // PostMan
+    // Get, http://localhost:8282/events/search?q=축제&page=1
+
     // 등록 요청
     @PostMapping
     public ResponseEntity<?> register (@AuthenticationPrincipal TokenUserInfo userInfo, // JwtAuthFilter 에서 시큐리티에 등록한 데이터
@@ -65,10 +155,71 @@ public class EventController {
         }
     }
 
+    // 대량 등록 요청 (본문의 JSON 배열을 메모리에 모두 올리지 않고 읽으면서 저장)
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulkRegister(@AuthenticationPrincipal TokenUserInfo userInfo,
+                                          HttpServletRequest request) throws IOException {
+        try {
+            int imported = eventImportService.importEvents(request.getInputStream(), userInfo.getUserId());
+            return ResponseEntity.ok().body(Map.of("imported", imported));
+
+        } catch (EventImportException e) {
+
+            // 앞 배치는 저장되었을 수 있으므로 저장된 개수와 실패한 위치를 함께 응답
+            log.warn(e.getMessage());
+            Throwable cause = e.getCause();
+            int status = cause instanceof IllegalStateException ? 401
+                    : cause instanceof IllegalArgumentException || cause instanceof IOException ? 400
+                    : 500;
+            return ResponseEntity.status(status).body(Map.of(
+                    "imported", e.getImported(),
+                    "failedIndex", e.getFailedIndex(),
+                    "message", String.valueOf(e.getMessage())
+            ));
+        }
+    }
+
+    // PostMan
+    // POST, http://localhost:8282/events/bulk, Body - raw - JSON
+    /*
+    [
+        { "title": "농부 이벤트", "desc": "농부 이벤트입니다.", "imageUrl": "https://...", "beginDate": "2024-12-31" },
+        { "title": "어부 이벤트", "desc": "어부 이벤트입니다.", "imageUrl": "https://...", "beginDate": "2025-01-31" }
+    ]
+    */
+
+    // 내 이벤트 전체 내보내기 (ndjson 또는 csv, 응답 스트림에 바로 기록)
+    @GetMapping("/export")
+    public ResponseEntity<?> export(@AuthenticationPrincipal TokenUserInfo userInfo,
+                                    @RequestParam(defaultValue = "ndjson") String format) {
+
+        EventExportService.Format exportFormat;
+        try {
+            exportFormat = EventExportService.Format.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        String userId = userInfo.getUserId();
+        StreamingResponseBody body = out -> eventExportService.export(userId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"events." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // PostMan
+    // GET, http://localhost:8282/events/export?format=csv
+
     // 단일 조회 요청
     @PreAuthorize("hasAuthority('PREMIUM') or hasAuthority('ADMIN')") // 사전에 인가받은 여부 (프리미엄회원만 상세조회 가능)
     @GetMapping("/{eventId}")
-    public ResponseEntity<?> getEvent (@PathVariable Long eventId) {
+    @QueryBudget(2) // 이벤트 버전(ETag) + 상세
+    public ResponseEntity<?> getEvent (@PathVariable Long eventId,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                       WebRequest webRequest) {
 
         if (eventId == null || eventId < 1) {
 
@@ -78,13 +229,21 @@ public class EventController {
             return ResponseEntity.badRequest().body(errorMessage);
         }
 
-        EventOneDto eventOne = eventService.getEventDetail(eventId);
+        // 이벤트가 수정되지 않았으면 엔터티를 읽지 않고 304 응답
+        EventVersion version = eventService.getEventVersion(eventId);
+        if (version != null && webRequest.checkNotModified(EncodedResponse.weakEtag(version.etag()), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+
+        EncodedResponse eventOne = eventCache.getEncodedDetail(eventId,
+                () -> responseEncoder.encode(eventService.getEventDetail(eventId)));
 
-        return ResponseEntity.ok().body(eventOne);
+        return encoded(eventOne, acceptEncoding);
     }
 
     // PostMan
     // Get, http://localhost:8282/events/2 - 건강건강이벤트
+    // 응답의 ETag 값을 If-None-Match 헤더로 보내면 변경이 없을 때 304 응답
 
     // 삭제요청
     
@@ -117,4 +276,29 @@ public class EventController {
             "beginDate": "2024-12-31"
     }
     */
-}
\ No newline at end of file
+
+    // 이벤트 캐시 적중률 조회 (관리자 전용)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> cacheStats() {
+        return ResponseEntity.ok().body(eventCache.stats());
+    }
+
+    // PostMan
+    // Get, http://localhost:8282/events/cache/stats (ADMIN 토큰 필요)
+
+    // 클라이언트가 지원하는 압축 형식의 본문으로 응답 (캐시된 바이트를 그대로 전송)
+    private ResponseEntity<byte[]> encoded(EncodedResponse response, String acceptEncoding) {
+        String encoding = response.selectEncoding(acceptEncoding);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return builder.body(response.body(encoding));
+    }
+}
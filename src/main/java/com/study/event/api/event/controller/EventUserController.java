@@ -3,12 +3,17 @@ package com.study.event.api.event.controller;
 import com.study.event.api.auth.TokenProvider;
 import com.study.event.api.event.dto.request.EventUserSaveDto;
 import com.study.event.api.event.dto.request.LoginRequestDto;
+import com.study.event.api.event.dto.request.TokenRefreshRequestDto;
 import com.study.event.api.event.dto.response.LoginResponseDto;
 import com.study.event.api.event.service.EventUserService;
+import com.study.event.api.auth.PasswordHasher;
 import com.study.event.api.exception.LoginFailException;
+import com.study.event.api.exception.PasswordHashingRejectedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,6 +30,8 @@ public class EventUserController {
 
     private final EventUserService eventUserService;
 
+    private final PasswordHasher passwordHasher;
+
     // 이메일 중복확인 API
     @GetMapping("/check-email")
     public ResponseEntity<?> checkEmail(String email) {
@@ -65,6 +72,8 @@ public class EventUserController {
 
         try {
             eventUserService.confirmSignUp(dto);
+        } catch (PasswordHashingRejectedException e) {
+            return busy(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -94,6 +103,10 @@ public class EventUserController {
             String errorMessage = e.getMessage();
             return ResponseEntity.status(422) // 번호는 내가 커스텀해도 됨 (로그인실패는 422하겠다)
                     .body(errorMessage);
+
+        } catch (PasswordHashingRejectedException e) {
+            // 로그인 요청이 몰려 암호화 대기열이 가득 찬 경우
+            return busy(e);
         }
 
         // React 에서 회원가입 후 postman 에서 로그인 시도하기
@@ -106,6 +119,27 @@ public class EventUserController {
          */
     }
 
+    // access 토큰 재발급 요청 (access 토큰이 만료되었거나 무효화되어 401/403 을 받은 경우)
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody TokenRefreshRequestDto dto) {
+
+        try {
+            LoginResponseDto responseDto = eventUserService.refresh(dto.getRefreshToken());
+            return ResponseEntity.ok().body(responseDto);
+
+        } catch (LoginFailException e) {
+            // refresh 토큰도 만료되었거나 이미 사용된 경우 - 다시 로그인해야 함
+            return ResponseEntity.status(401).body(e.getMessage());
+        }
+
+        // post, Body - raw - JSON, http://localhost:8787/auth/refresh
+        /*
+            {
+                "refreshToken": "로그인 응답의 refreshToken"
+            }
+         */
+    }
+
     // Premium 회원으로 등급업하는 요청처리
     @PutMapping("/promote")
     public ResponseEntity<?> promote (
@@ -129,4 +163,29 @@ public class EventUserController {
         // put, http://localhost:8787/auth/promote, Authorization - Bearer Token - 토큰 입력 // 해당 회원 권한 PREMIUM 으로 변경됨
 
     }
+
+    // 비밀번호 암호화 스레드풀 상태 조회 (관리자 전용)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/password-hashing/stats")
+    public ResponseEntity<?> passwordHashingStats() {
+        return ResponseEntity.ok().body(passwordHasher.stats());
+
+        // get, http://localhost:8787/auth/password-hashing/stats (ADMIN 토큰 필요)
+    }
+
+    // 회원 2차 캐시 통계 조회 (관리자 전용)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/user-cache/stats")
+    public ResponseEntity<?> userCacheStats() {
+        return ResponseEntity.ok().body(eventUserService.userCacheStats());
+
+        // get, http://localhost:8787/auth/user-cache/stats (ADMIN 토큰 필요)
+    }
+
+    private ResponseEntity<?> busy(PasswordHashingRejectedException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,14 @@
+package com.study.event.api.event.dto.request;
+
+import lombok.*;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRefreshRequestDto {
+
+    private String refreshToken; // 로그인 응답으로 받은 refresh 토큰
+}
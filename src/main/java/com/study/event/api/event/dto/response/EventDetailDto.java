@@ -1,6 +1,7 @@
 package com.study.event.api.event.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.study.event.api.event.entity.Event;
 import lombok.*;
@@ -22,6 +23,29 @@ public class EventDetailDto {
     @JsonProperty(value = "img-url")
     private String imgUrl;
 
+    // 목록용 축소 이미지 URL (이 서비스에서 업로드한 이미지만, 없으면 null)
+    @Setter
+    @JsonProperty(value = "thumb-url")
+    private String thumbUrl;
+
+    // 이미지의 축소본이 만들어졌는지 여부 (tbl_image_derivative, 응답에는 포함하지 않음)
+    @JsonIgnore
+    private boolean imageDerived;
+
+    // 목록 조회 쿼리에서 필요한 컬럼만 바로 담을 때 사용 (EventRepositoryCustomImpl)
+    // PK 는 DB 에서 문자열로 바꾸지 않고 숫자 그대로 받아 여기서 변환한다.
+    public EventDetailDto(Long id, String title, LocalDate startDate, String imgUrl) {
+        this(id, title, startDate, imgUrl, false);
+    }
+
+    public EventDetailDto(Long id, String title, LocalDate startDate, String imgUrl, Boolean imageDerived) {
+        this.id = String.valueOf(id);
+        this.title = title;
+        this.startDate = startDate;
+        this.imgUrl = imgUrl;
+        this.imageDerived = Boolean.TRUE.equals(imageDerived);
+    }
+
     public EventDetailDto(Event event) {
         this.id = event.getId().toString();
         this.title = event.getTitle();
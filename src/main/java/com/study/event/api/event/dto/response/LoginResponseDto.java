@@ -14,5 +14,7 @@ public class LoginResponseDto {
     
     private  String role; // 권한 정보
     
-    private String token; // 인증 토큰 (문자열)
+    private String token; // 인증 토큰 (문자열, 유효시간이 짧은 access 토큰)
+
+    private String refreshToken; // access 토큰 재발급용 토큰 (POST /auth/refresh)
 }
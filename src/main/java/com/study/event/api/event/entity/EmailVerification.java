@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
-@Table(name = "tbl_email_verification")
+@Table(name = "tbl_email_verification") // 인덱스는 db/migration 에서 관리
 public class EmailVerification {
 
     @Id
@@ -26,13 +26,19 @@ public class EmailVerification {
     @Column(nullable = false)
     private String verificationCode; // 인증 코드
 
-    @Column(nullable = false)
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate; // 인증 만료시간
 
     @OneToOne
     @JoinColumn(name = "event_user_id", referencedColumnName = "ev_user_id")
     private EventUser eventUser;
 
+    // 인증 코드 재발급
+    public void renew(String verificationCode, LocalDateTime expiryDate) {
+        this.verificationCode = verificationCode;
+        this.expiryDate = expiryDate;
+    }
+
     /*
         ALTER TABLE tbl_email_verification
         ADD CONSTRAINT fk_dfsd_dfsdsf
@@ -3,6 +3,7 @@ package com.study.event.api.event.entity;
 import com.study.event.api.event.dto.request.EventSaveDto;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -16,11 +17,14 @@ import java.time.LocalDateTime;
 @Builder
 
 @Entity
-@Table(name = "tbl_event")
+@Table(name = "tbl_event") // 인덱스는 db/migration 에서 관리
 public class Event {
 
+    // IDENTITY 전략은 insert 마다 키를 받아와야 해서 JDBC 배치가 동작하지 않으므로
+    // 시퀀스에서 50개씩 미리 받아오는(pooled) 방식으로 PK 를 생성한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq_generator")
+    @SequenceGenerator(name = "event_seq_generator", sequenceName = "tbl_event_seq", allocationSize = 50)
     @Column(name = "ev_id")
     private Long id;
 
@@ -39,6 +43,15 @@ public class Event {
     @CreationTimestamp
     private LocalDateTime createdAt; // 이벤트 등록 날짜
 
+    @UpdateTimestamp
+    @Column(name = "ev_updated_at")
+    private LocalDateTime updatedAt; // 이벤트 수정 날짜 (Last-Modified)
+
+    // 수정될 때마다 1씩 증가 (ETag)
+    @Version
+    @Column(name = "ev_version", nullable = false)
+    private long version;
+
     @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ev_user_id")
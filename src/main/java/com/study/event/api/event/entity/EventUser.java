@@ -1,8 +1,12 @@
 package com.study.event.api.event.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -18,14 +22,23 @@ import java.util.List;
 
 @Entity
 @Table(name = "tbl_event_user")
+// 2차 캐시 - 로그인, 인증, 등급 변경마다 조회하지만 거의 바뀌지 않는 데이터
+// 엔터티로 변경하면(promoteToPremium, setEmailVerified) 커밋시 캐시도 함께 갱신된다.
+// 비밀번호는 EventUserRepository 의 update 쿼리로 변경하며, 이때 캐시가 비워진다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EventUser.CACHE_REGION)
+@NaturalIdCache(region = EventUser.EMAIL_CACHE_REGION) // 이메일 => PK 캐시
 public class EventUser {
 
+    public static final String CACHE_REGION = "eventUser";
+    public static final String EMAIL_CACHE_REGION = "eventUserByEmail";
+
     @Id
     @GenericGenerator(strategy = "uuid2", name = "uuid-generator")
     @GeneratedValue(generator = "uuid-generator")
     @Column(name = "ev_user_id")
     private String id; // 회원계정이 아니고 랜덤문자PK
 
+    @NaturalId // 변경되지 않는 회원 식별값 - EventUserRepository.findByEmail 이 캐시로 조회
     @Column(name = "ev_user_email", nullable = false, unique = true)
     private String email; // 회원 계정
 
@@ -46,15 +59,23 @@ public class EventUser {
     @Column(nullable = false)
     private boolean emailVerified;
 
+    // 작성한 이벤트 개수 (목록 총 개수, 등급별 등록 제한에 사용)
+    // 이벤트 등록/삭제시 EventUserRepository 의 update 쿼리로만 변경된다.
+    // 캐시된 엔터티의 값은 최신이 아닐 수 있으므로 엔터티를 수정할 때 함께 저장하지 않는다. (updatable = false)
+    @Column(name = "ev_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int eventCount = 0;
+
+    // 이벤트 목록이 바뀔 때마다(등록, 수정, 삭제) 1씩 증가 - 목록 응답의 ETag 로 사용
+    // eventCount 와 마찬가지로 EventUserRepository 의 update 쿼리로만 변경된다.
+    @Column(name = "ev_list_version", nullable = false, updatable = false)
+    @Builder.Default
+    private long eventListVersion = 0;
+
     @OneToMany(mappedBy = "eventUser", orphanRemoval = true, cascade = CascadeType.ALL)
     @Builder.Default // 초기화 한 경우 걸어줘야 한다.
     private List<Event> eventList = new ArrayList<>();
 
-    public void confirm(String password) {
-        this.password = password;
-        this.createAt = LocalDateTime.now();
-    }
-
     public void promoteToPremium() {
         this.role = Role.PREMIUM;
     }
@@ -0,0 +1,28 @@
+package com.study.event.api.event.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 축소본(썸네일 등)이 모두 만들어진 원본 이미지 (ImageDerivativeService 가 축소본 업로드 후 기록)
+// 목록 조회시 이벤트 이미지 경로로 조인하여 축소본 URL 을 줄지 결정한다. (S3 에 확인하지 않음)
+@Getter
+@ToString
+@EqualsAndHashCode(of = "imagePath")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+@Entity
+@Table(name = "tbl_image_derivative")
+public class ImageDerivative {
+
+    @Id
+    @Column(name = "image_path")
+    private String imagePath; // 원본 이미지 URL (tbl_event.ev_image_path 와 같은 값)
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
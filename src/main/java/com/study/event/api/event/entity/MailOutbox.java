@@ -0,0 +1,53 @@
+package com.study.event.api.event.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 발송할 메일을 저장하는 아웃박스 테이블
+// 메일은 요청 트랜잭션 안에서 이 테이블에 저장만 되고, 실제 발송은 MailOutboxWorker 가 커밋 이후에 처리한다.
+@Getter
+@ToString(exclude = "content")
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+@Entity
+@Table(name = "tbl_mail_outbox") // 인덱스는 db/migration 에서 관리
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient; // 받는 사람
+
+    @Column(nullable = false)
+    private String subject; // 메일 제목
+
+    @Column(nullable = false, length = 2000)
+    private String content; // 메일 내용 (html)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_status", nullable = false, length = 20)
+    @Builder.Default
+    private MailStatus status = MailStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts; // 발송 시도 횟수
+
+    // 다음 발송 시도 시간 (발송중 상태에서는 점유 만료 시간)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError; // 마지막 실패 사유
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
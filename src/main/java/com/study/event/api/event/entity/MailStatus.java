@@ -0,0 +1,5 @@
+package com.study.event.api.event.entity;
+
+public enum MailStatus {
+    PENDING, SENDING, SENT, FAILED // 발송대기, 발송중, 발송완료, 발송실패(재시도 초과)
+}
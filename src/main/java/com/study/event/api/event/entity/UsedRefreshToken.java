@@ -0,0 +1,26 @@
+package com.study.event.api.event.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 이미 사용한 refresh 토큰 (토큰 ID 로 재사용 여부만 확인)
+@Getter
+@ToString
+@EqualsAndHashCode(of = "tokenId")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+@Entity
+@Table(name = "tbl_used_refresh_token") // 인덱스는 db/migration 에서 관리
+public class UsedRefreshToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId; // refresh 토큰의 jti
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 토큰 만료시각 (이후에는 삭제)
+}
@@ -0,0 +1,26 @@
+package com.study.event.api.event.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 회원 단위 access 토큰 무효화 기준시각 (이 시각 이전에 발급된 토큰은 무효)
+@Getter
+@ToString
+@EqualsAndHashCode(of = "userId")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+@Entity
+@Table(name = "tbl_user_token_cutoff") // 인덱스는 db/migration 에서 관리
+public class UserTokenCutoff {
+
+    @Id
+    @Column(name = "ev_user_id")
+    private String userId; // 회원 PK
+
+    @Column(nullable = false)
+    private LocalDateTime cutoff; // 무효화 기준시각 (access 토큰 유효시간이 지나면 삭제)
+}
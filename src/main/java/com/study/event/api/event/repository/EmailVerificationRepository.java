@@ -6,8 +6,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface EmailVerificationRepository extends JpaRepository<EmailVerification, String> {
+public interface EmailVerificationRepository extends JpaRepository<EmailVerification, String>, EmailVerificationRepositoryCustom {
 
     // 유저정보를 통해 인증코드 정보를 탐색하기
     Optional<EmailVerification> findByEventUser(EventUser eventUser);
-}
\ No newline at end of file
+
+    // 회원 이메일로 인증코드 정보를 탐색하기 (회원 테이블과 조인)
+    Optional<EmailVerification> findByEventUserEmail(String email);
+}
@@ -0,0 +1,9 @@
+package com.study.event.api.event.repository;
+
+import java.time.LocalDateTime;
+
+public interface EmailVerificationRepositoryCustom {
+
+    // 만료된 인증코드를 최대 limit 개 삭제 (expiry_date 인덱스 사용)
+    int deleteExpired(LocalDateTime now, int limit);
+}
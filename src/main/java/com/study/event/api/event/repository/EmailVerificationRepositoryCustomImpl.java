@@ -0,0 +1,28 @@
+package com.study.event.api.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailVerificationRepositoryCustomImpl implements EmailVerificationRepositoryCustom {
+
+    private final EntityManager em;
+
+    // 영역을 지정하지 않은 native 쿼리는 2차 캐시 전체를 비우므로 인증코드 테이블만 지정한다.
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return em.unwrap(Session.class)
+                .createNativeQuery("DELETE FROM tbl_email_verification WHERE expiry_date < :now LIMIT :limit")
+                .addSynchronizedQuerySpace("tbl_email_verification")
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+}
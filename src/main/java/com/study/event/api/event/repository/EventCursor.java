@@ -0,0 +1,67 @@
+package com.study.event.api.event.repository;
+
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// 커서(키셋) 페이징에서 사용하는 위치 정보
+// 클라이언트에게는 Base64 문자열로 인코딩된 불투명한(opaque) 값으로만 전달된다.
+@Getter @ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class EventCursor {
+
+    // 커서의 진행 방향 (다음 페이지, 이전 페이지)
+    public enum Direction {
+        NEXT, PREV
+    }
+
+    private static final String DELIMITER = "|";
+
+    private final Direction direction;
+
+    // 정렬 기준 컬럼의 값 (sort=date 면 시작날짜, sort=title 이면 제목)
+    private final String sortValue;
+
+    // 정렬값이 같은 경우 순서를 확정짓기 위한 이벤트 PK
+    private final Long id;
+
+    public LocalDate dateValue() {
+        return LocalDate.parse(sortValue);
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 문자열로 인코딩
+     * @return - url-safe Base64 문자열
+     */
+    public String encode() {
+        String raw = direction.name() + DELIMITER + id + DELIMITER + sortValue;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석
+     * @param cursor - encode() 로 만들어진 문자열
+     * @return - 해석된 커서, 잘못된 값이면 IllegalArgumentException
+     */
+    public static EventCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            // 제목에 구분자가 들어있을 수 있으므로 앞의 두 개만 잘라낸다.
+            int first = raw.indexOf(DELIMITER);
+            int second = raw.indexOf(DELIMITER, first + 1);
+
+            Direction direction = Direction.valueOf(raw.substring(0, first));
+            Long id = Long.valueOf(raw.substring(first + 1, second));
+            String sortValue = raw.substring(second + 1);
+
+            return new EventCursor(direction, sortValue, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("cursor 값이 올바르지 않습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.study.event.api.event.repository;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 회원의 이벤트 목록 버전(ETag)과 전체 이벤트 개수
+// 둘 다 회원 행(tbl_event_user)에 있으므로 PK 로 한 번에 조회하고, 목록 조회에서는 개수를 다시 세지 않는다.
+@Getter
+@ToString
+public class EventListVersion {
+
+    private final long version;
+    private final int eventCount;
+
+    public EventListVersion(long version, int eventCount) {
+        this.version = version;
+        this.eventCount = eventCount;
+    }
+}
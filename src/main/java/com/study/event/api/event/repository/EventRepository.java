@@ -2,7 +2,16 @@ package com.study.event.api.event.repository;
 
 import com.study.event.api.event.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface EventRepository
         extends JpaRepository<Event, Long>, EventRepositoryCustom {
+
+    // 조건부 요청(If-None-Match, If-Modified-Since) 확인용 버전 정보만 조회
+    @Query("select new com.study.event.api.event.repository.EventVersion(e.id, e.version, e.createdAt, e.updatedAt) " +
+            "from Event e where e.id = :id")
+    Optional<EventVersion> findVersionById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,16 +1,27 @@
 package com.study.event.api.event.repository;
 
-import com.study.event.api.event.entity.Event;
+import com.study.event.api.event.dto.response.EventDetailDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface EventRepositoryCustom {
 
-    Page<Event> findEvents(Pageable pageable, String sort, String userId);
+    // 목록 화면에 필요한 컬럼만 DTO 로 바로 조회 (엔터티를 영속성 컨텍스트에 올리지 않음)
+    Page<EventDetailDto> findEvents(Pageable pageable, String sort, String userId, long totalCount);
 
-    // ...
+    // 커서(키셋) 기반 조회 - cursor 가 null 이면 첫 페이지
+    // 다음 페이지 존재 여부 판단을 위해 최대 size + 1 개를 화면 표시 순서대로 리턴한다.
+    List<EventDetailDto> findEventsByCursor(EventCursor cursor, int size, String sort, String userId);
+
+    // PK 목록으로 목록 DTO 조회 (검색 결과 표시용, 순서는 보장하지 않음)
+    List<EventDetailDto> findEventsByIds(List<Long> ids);
+
+    // 검색 색인을 사용할 수 없을 때의 DB 검색 - 제목이나 설명에 모든 단어가 들어있는 회원의 이벤트 (최근 등록순)
+    Page<EventDetailDto> searchEvents(String userId, List<String> words, Pageable pageable);
 
     // ...
 
     // ...
-}
\ No newline at end of file
+}
@@ -1,18 +1,27 @@
 package com.study.event.api.event.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.study.event.api.event.entity.Event;
+import com.study.event.api.event.dto.response.EventDetailDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 
 import static com.study.event.api.event.entity.QEvent.event;
+import static com.study.event.api.event.entity.QImageDerivative.imageDerivative;
 
 @Repository
 @RequiredArgsConstructor
@@ -22,25 +31,138 @@ public class EventRepositoryCustomImpl implements EventRepositoryCustom {
     private final JPAQueryFactory factory;
 
     @Override
-    public Page<Event> findEvents(Pageable pageable, String sort, String userId) {
+    public Page<EventDetailDto> findEvents(Pageable pageable, String sort, String userId, long totalCount) {
 
         // 페이징을 통한 조회
-        List<Event> eventList = factory
-                .selectFrom(event)
+        List<EventDetailDto> eventList = selectDetails()
                 .where(event.eventUser.id.eq(userId))
                 .orderBy(specifier(sort))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 총 데이터 수 조회
-        Long count = factory
-                .select(event.count())
+        // 총 데이터 수는 count(*) 대신 목록 버전과 함께 조회한 회원의 이벤트 개수(ev_count)를 사용
+        return new PageImpl<>(eventList, pageable, totalCount);
+    }
+
+    @Override
+    public List<EventDetailDto> findEventsByCursor(EventCursor cursor, int size, String sort, String userId) {
+
+        // 이전 페이지는 정렬을 뒤집어서 커서 바로 앞의 데이터부터 읽은 뒤 다시 뒤집는다.
+        boolean backward = cursor != null && cursor.getDirection() == EventCursor.Direction.PREV;
+
+        List<EventDetailDto> eventList = selectDetails()
+                .where(
+                        event.eventUser.id.eq(userId),
+                        // 시작날짜가 없는 이벤트는 날짜 커서를 만들 수 없으므로 날짜 정렬에서 제외
+                        "date".equals(sort) ? event.date.isNotNull() : null,
+                        seek(cursor, sort, backward)
+                )
+                .orderBy(keysetSpecifiers(sort, backward))
+                // offset 없이 커서 위치부터 필요한 만큼만 읽는다. (+1 은 다음 페이지 존재 여부 확인용)
+                .limit(size + 1)
+                .fetch();
+
+        if (backward) {
+            Collections.reverse(eventList);
+        }
+        return eventList;
+    }
+
+    @Override
+    public List<EventDetailDto> findEventsByIds(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        return selectDetails()
+                .where(event.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public Page<EventDetailDto> searchEvents(String userId, List<String> words, Pageable pageable) {
+
+        // 단어는 글자와 숫자로만 이루어져 있으므로 like 의 특수문자(%, _)가 들어올 수 없다.
+        // 한글 2글자 단어도 찾아야 하므로 FULLTEXT(최소 3글자) 대신 회원 인덱스로 좁힌 뒤 like 로 거른다.
+        BooleanBuilder condition = new BooleanBuilder(event.eventUser.id.eq(userId));
+        for (String word : words) {
+            condition.and(event.title.contains(word).or(event.description.contains(word)));
+        }
+
+        List<EventDetailDto> eventList = selectDetails()
+                .where(condition)
+                .orderBy(event.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(eventList, pageable, () -> {
+            Long count = factory
+                    .select(event.count())
+                    .from(event)
+                    .where(condition)
+                    .fetchOne();
+            return count == null ? 0L : count;
+        });
+    }
+
+    // 목록 DTO 조회 - 축소본 기록을 이미지 경로(PK)로 함께 조인하여 썸네일 여부까지 한 쿼리로 읽는다.
+    private JPAQuery<EventDetailDto> selectDetails() {
+        return factory
+                .select(detailProjection())
                 .from(event)
-                .where(event.eventUser.id.eq(userId))
-                .fetchOne();
+                .leftJoin(imageDerivative).on(imageDerivative.imagePath.eq(event.image));
+    }
+
+    // 목록 DTO 에 필요한 id, 제목, 시작날짜, 이미지 경로, 축소본 여부만 select
+    private ConstructorExpression<EventDetailDto> detailProjection() {
+        return Projections.constructor(EventDetailDto.class,
+                event.id,
+                event.title,
+                event.date,
+                event.image,
+                imageDerivative.imagePath.isNotNull());
+    }
+
+    // 커서 위치 이후의 데이터만 조회하는 조건 (정렬값, PK) 튜플 비교
+    private BooleanExpression seek(EventCursor cursor, String sort, boolean backward) {
+        if (cursor == null) return null;
+
+        Long id = cursor.getId();
 
-        return new PageImpl<>(eventList, pageable, count);
+        switch (sort) {
+            case "date": {
+                // 날짜 내림차순, PK 내림차순
+                LocalDate date = cursor.dateValue();
+                return backward
+                        ? event.date.gt(date).or(event.date.eq(date).and(event.id.gt(id)))
+                        : event.date.lt(date).or(event.date.eq(date).and(event.id.lt(id)));
+            }
+            case "title": {
+                // 제목 오름차순, PK 오름차순
+                String title = cursor.getSortValue();
+                return backward
+                        ? event.title.lt(title).or(event.title.eq(title).and(event.id.lt(id)))
+                        : event.title.gt(title).or(event.title.eq(title).and(event.id.gt(id)));
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 정렬 방식입니다. - " + sort);
+        }
+    }
+
+    // 커서 페이징용 정렬 조건 - 정렬값이 같을 때를 대비해 항상 PK 를 함께 정렬한다.
+    private OrderSpecifier<?>[] keysetSpecifiers(String sort, boolean backward) {
+        switch (sort) {
+            case "date":
+                return backward
+                        ? new OrderSpecifier<?>[]{event.date.asc(), event.id.asc()}
+                        : new OrderSpecifier<?>[]{event.date.desc(), event.id.desc()};
+            case "title":
+                return backward
+                        ? new OrderSpecifier<?>[]{event.title.desc(), event.id.desc()}
+                        : new OrderSpecifier<?>[]{event.title.asc(), event.id.asc()};
+            default:
+                throw new IllegalArgumentException("지원하지 않는 정렬 방식입니다. - " + sort);
+        }
     }
 
     // 정렬 조건을 처리하는 메서드
@@ -54,4 +176,4 @@ public class EventRepositoryCustomImpl implements EventRepositoryCustom {
                 return null;
         }
     }
-}
\ No newline at end of file
+}
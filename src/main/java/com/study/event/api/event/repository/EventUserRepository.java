@@ -2,14 +2,16 @@ package com.study.event.api.event.repository;
 
 import com.study.event.api.event.entity.EventUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface EventUserRepository extends JpaRepository<EventUser, String> {
+// 이메일 조회, 이벤트 개수/목록 버전 변경은 EventUserRepositoryCustom 에 구현 (2차 캐시 사용)
+public interface EventUserRepository extends JpaRepository<EventUser, String>, EventUserRepositoryCustom {
 
-    // query method로 Jpql 생성
-    boolean existsByEmail(String email);
-
-    // 조회할 때 null 에러를 방지하기 위해 Optional 사용하기
-    Optional<EventUser> findByEmail(String email);
-}
\ No newline at end of file
+    // 이벤트 목록 버전(목록 ETag)과 전체 이벤트 개수만 조회
+    @Query("select new com.study.event.api.event.repository.EventListVersion(u.eventListVersion, u.eventCount) " +
+            "from EventUser u where u.id = :userId")
+    Optional<EventListVersion> findEventListVersionById(@Param("userId") String userId);
+}
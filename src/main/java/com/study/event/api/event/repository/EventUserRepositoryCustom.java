@@ -0,0 +1,33 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.entity.Role;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface EventUserRepositoryCustom {
+
+    // 이메일(natural id)로 회원 조회 - 2차 캐시에 있으면 DB 를 조회하지 않는다.
+    // 조회할 때 null 에러를 방지하기 위해 Optional 사용하기
+    Optional<EventUser> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    // 등록 제한 검사와 개수 증가를 하나의 update 로 처리
+    // 제한 등급(limitedRole)은 증가 후 개수가 limit 이하일 때만 증가하므로 동시에 등록해도 제한을 넘지 않는다.
+    // 리턴값이 0 이면 제한에 걸렸거나 회원이 없는 경우
+    int increaseEventCount(String userId, int amount, Role limitedRole, int limit);
+
+    int decreaseEventCount(String userId);
+
+    // 이벤트 수정처럼 개수 변화 없이 목록 내용이 바뀐 경우 목록 버전만 증가
+    int increaseEventListVersion(String userId);
+
+    // 비밀번호만 변경 - 조회한 뒤 다른 요청이 비밀번호를 바꿨으면(expectedPassword 와 다르면) 변경하지 않고 0 을 리턴
+    // 엔터티 전체를 저장하지 않으므로 그 사이 바뀐 다른 컬럼(등급, 이메일 인증여부)을 덮어쓰지 않는다.
+    int updatePassword(String userId, String expectedPassword, String newPassword);
+
+    // 회원가입 마무리 - 비밀번호와 가입시간 변경 (조건은 updatePassword 와 같음)
+    int confirmSignUp(String userId, String expectedPassword, String newPassword, LocalDateTime createAt);
+}
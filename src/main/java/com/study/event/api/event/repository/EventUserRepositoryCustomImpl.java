@@ -0,0 +1,106 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.entity.Role;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class EventUserRepositoryCustomImpl implements EventUserRepositoryCustom {
+
+    // 개수/버전 update 가 변경하는 영역의 이름
+    // Hibernate 는 update 대상 테이블에 매핑된 엔터티의 2차 캐시 영역 전체를 비우는데,
+    // 이벤트를 등록할 때마다 모든 회원의 캐시가 사라지지 않도록 엔터티와 무관한 이름을 지정한다.
+    // (개수와 버전은 엔터티가 아닌 전용 조회 쿼리로만 읽고, 엔터티 수정시에는 저장하지 않는다.)
+    static final String COUNTER_SPACE = "tbl_event_user#counters";
+
+    private final EntityManager em;
+
+    // 읽기 전용 - 트랜잭션 밖에서 호출되면 복제 DB 에서 조회 (JpaRepository 의 조회 메서드와 같음)
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EventUser> findByEmail(String email) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(EventUser.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    @Transactional
+    public int increaseEventCount(String userId, int amount, Role limitedRole, int limit) {
+        return counterUpdate("update tbl_event_user " +
+                "set ev_count = ev_count + :amount, ev_list_version = ev_list_version + 1 " +
+                "where ev_user_id = :userId and (role <> :limitedRole or ev_count + :amount <= :limit)")
+                .setParameter("userId", userId)
+                .setParameter("amount", amount)
+                .setParameter("limitedRole", limitedRole.name())
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int decreaseEventCount(String userId) {
+        return counterUpdate("update tbl_event_user " +
+                "set ev_count = ev_count - 1, ev_list_version = ev_list_version + 1 " +
+                "where ev_user_id = :userId and ev_count > 0")
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int increaseEventListVersion(String userId) {
+        return counterUpdate("update tbl_event_user set ev_list_version = ev_list_version + 1 where ev_user_id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int updatePassword(String userId, String expectedPassword, String newPassword) {
+        return passwordUpdate("update tbl_event_user set password = :newPassword", userId, expectedPassword)
+                .setParameter("newPassword", newPassword)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int confirmSignUp(String userId, String expectedPassword, String newPassword, LocalDateTime createAt) {
+        return passwordUpdate("update tbl_event_user set password = :newPassword, create_at = :createAt", userId, expectedPassword)
+                .setParameter("newPassword", newPassword)
+                .setParameter("createAt", createAt)
+                .executeUpdate();
+    }
+
+    // 비밀번호는 엔터티로 조회하므로 counters 영역이 아닌 엔터티 캐시를 비운다. (커밋 후 다시 조회하면 새 값이 캐시됨)
+    private NativeQuery<?> passwordUpdate(String set, String userId, String expectedPassword) {
+        String condition = expectedPassword == null ? "password is null" : "password = :expectedPassword";
+        NativeQuery<?> query = em.unwrap(Session.class)
+                .createNativeQuery(set + " where ev_user_id = :userId and " + condition)
+                .addSynchronizedEntityClass(EventUser.class)
+                .setParameter("userId", userId);
+        if (expectedPassword != null) query.setParameter("expectedPassword", expectedPassword);
+        return query;
+    }
+
+    private NativeQuery<?> counterUpdate(String sql) {
+        return em.unwrap(Session.class)
+                .createNativeQuery(sql)
+                .addSynchronizedQuerySpace(COUNTER_SPACE);
+    }
+}
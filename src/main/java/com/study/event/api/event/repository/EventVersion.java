@@ -0,0 +1,34 @@
+package com.study.event.api.event.repository;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 이벤트 단일 조회 응답의 변경 여부를 판단하기 위한 버전 정보 (ETag, Last-Modified)
+// 엔터티 전체를 읽지 않고 PK 로 이 값들만 조회한다.
+@Getter
+@ToString
+public class EventVersion {
+
+    private final Long id;
+    private final long version;
+    private final LocalDateTime modifiedAt;
+
+    public EventVersion(Long id, long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version;
+        // 수정된 적이 없으면 등록 시간
+        this.modifiedAt = (updatedAt != null) ? updatedAt : createdAt;
+    }
+
+    public String etag() {
+        return "e" + id + "-" + version;
+    }
+
+    // 수정 시간 (epoch millis, 알 수 없으면 -1)
+    public long lastModified() {
+        return modifiedAt == null ? -1 : modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,7 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.ImageDerivative;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImageDerivativeRepository extends JpaRepository<ImageDerivative, String> {
+}
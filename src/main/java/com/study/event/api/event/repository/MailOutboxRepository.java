@@ -0,0 +1,48 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.MailOutbox;
+import com.study.event.api.event.entity.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 요청 트랜잭션 밖(백그라운드 워커)에서도 호출되므로 변경 쿼리마다 트랜잭션을 선언한다.
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long>, MailOutboxRepositoryCustom {
+
+    // 발송 시간이 된 메일을 오래된 순으로 조회
+    // 기본 조회 메서드는 읽기 전용 트랜잭션이라 복제 DB 로 갈 수 있는데, 복제 지연으로 이미 점유, 발송된 메일을
+    // 다시 읽거나 새 메일을 늦게 보게 되므로 점유(claim)와 같이 primary 에서 읽도록 읽기/쓰기 트랜잭션을 선언한다.
+    @Transactional
+    List<MailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            MailStatus status, LocalDateTime now, Pageable pageable);
+
+    // 발송 대기중인 메일을 발송중으로 점유 (다른 워커가 먼저 점유했다면 0)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = com.study.event.api.event.entity.MailStatus.SENDING, " +
+            "m.nextAttemptAt = :leaseUntil " +
+            "where m.id = :id and m.status = com.study.event.api.event.entity.MailStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 점유한 채로 서버가 죽은 메일을 다시 발송 대기로 돌려놓기
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = com.study.event.api.event.entity.MailStatus.PENDING " +
+            "where m.status = com.study.event.api.event.entity.MailStatus.SENDING and m.nextAttemptAt < :now")
+    int releaseExpiredClaims(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.attempts = m.attempts + 1, " +
+            "m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError where m.id = :id")
+    int markAttempt(@Param("id") Long id,
+                    @Param("status") MailStatus status,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                    @Param("lastError") String lastError);
+}
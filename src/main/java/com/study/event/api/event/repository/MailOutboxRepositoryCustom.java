@@ -0,0 +1,9 @@
+package com.study.event.api.event.repository;
+
+import java.time.LocalDateTime;
+
+public interface MailOutboxRepositoryCustom {
+
+    // 발송완료/발송실패 상태로 cutoff 이전에 마지막 시도를 한 메일을 최대 limit 개 삭제
+    int deleteFinishedBefore(LocalDateTime cutoff, int limit);
+}
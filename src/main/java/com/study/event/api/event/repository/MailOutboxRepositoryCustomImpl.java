@@ -0,0 +1,33 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.MailStatus;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepositoryCustomImpl implements MailOutboxRepositoryCustom {
+
+    private final EntityManager em;
+
+    // 발송완료/실패 상태에서는 next_attempt_at 이 마지막 시도 시간이므로 (mail_status, next_attempt_at) 인덱스를 사용한다.
+    // 영역을 지정하지 않은 native 쿼리는 2차 캐시 전체를 비우므로 아웃박스 테이블만 지정한다.
+    @Override
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime cutoff, int limit) {
+        return em.unwrap(Session.class)
+                .createNativeQuery("DELETE FROM tbl_mail_outbox " +
+                        "WHERE mail_status IN (:statuses) AND next_attempt_at < :cutoff LIMIT :limit")
+                .addSynchronizedQuerySpace("tbl_mail_outbox")
+                .setParameterList("statuses", List.of(MailStatus.SENT.name(), MailStatus.FAILED.name()))
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+}
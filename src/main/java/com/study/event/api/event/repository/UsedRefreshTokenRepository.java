@@ -0,0 +1,7 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.UsedRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UsedRefreshTokenRepository extends JpaRepository<UsedRefreshToken, String>, UsedRefreshTokenRepositoryCustom {
+}
@@ -0,0 +1,12 @@
+package com.study.event.api.event.repository;
+
+import java.time.LocalDateTime;
+
+public interface UsedRefreshTokenRepositoryCustom {
+
+    // 토큰 ID 를 사용한 것으로 기록 - 이미 기록되어 있으면(다른 요청, 다른 서버가 먼저 사용) false
+    boolean markUsed(String tokenId, LocalDateTime expiresAt);
+
+    // 만료된 토큰 ID 를 최대 limit 개 삭제 (expires_at 인덱스 사용)
+    int deleteExpired(LocalDateTime now, int limit);
+}
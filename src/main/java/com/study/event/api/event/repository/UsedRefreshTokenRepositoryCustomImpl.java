@@ -0,0 +1,47 @@
+package com.study.event.api.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class UsedRefreshTokenRepositoryCustomImpl implements UsedRefreshTokenRepositoryCustom {
+
+    // 영역을 지정하지 않은 native 쿼리는 2차 캐시 전체를 비우므로 이 테이블만 지정한다.
+    private static final String QUERY_SPACE = "tbl_used_refresh_token";
+
+    private final EntityManager em;
+
+    // PK 중복이면 무시하는 insert 한 번으로 확인과 기록을 함께 처리 (동시에 요청해도 한 번만 성공)
+    // 재발급 서비스는 읽기 전용 트랜잭션(복제 DB)이므로 새 트랜잭션으로 primary 에 바로 커밋한다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean markUsed(String tokenId, LocalDateTime expiresAt) {
+        return nativeQuery("INSERT IGNORE INTO tbl_used_refresh_token (token_id, expires_at) VALUES (:tokenId, :expiresAt)")
+                .setParameter("tokenId", tokenId)
+                .setParameter("expiresAt", expiresAt)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return nativeQuery("DELETE FROM tbl_used_refresh_token WHERE expires_at < :now LIMIT :limit")
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private NativeQuery<?> nativeQuery(String sql) {
+        return em.unwrap(Session.class)
+                .createNativeQuery(sql)
+                .addSynchronizedQuerySpace(QUERY_SPACE);
+    }
+}
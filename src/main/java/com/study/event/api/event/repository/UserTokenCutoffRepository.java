@@ -0,0 +1,13 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.UserTokenCutoff;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserTokenCutoffRepository extends JpaRepository<UserTokenCutoff, String>, UserTokenCutoffRepositoryCustom {
+
+    // 기준시각이 since 이후인 기록 (아직 유효한 access 토큰이 있을 수 있는 회원)
+    List<UserTokenCutoff> findByCutoffAfter(LocalDateTime since);
+}
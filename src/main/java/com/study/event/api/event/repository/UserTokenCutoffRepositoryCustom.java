@@ -0,0 +1,12 @@
+package com.study.event.api.event.repository;
+
+import java.time.LocalDateTime;
+
+public interface UserTokenCutoffRepositoryCustom {
+
+    // 회원의 무효화 기준시각 기록 - 이미 있으면 더 늦은 시각으로 변경 (호출한 트랜잭션과 함께 커밋, 롤백)
+    void revokeIssuedBefore(String userId, LocalDateTime cutoff);
+
+    // 기준시각이 before 이전인 기록을 최대 limit 개 삭제 (cutoff 인덱스 사용)
+    int deleteExpired(LocalDateTime before, int limit);
+}
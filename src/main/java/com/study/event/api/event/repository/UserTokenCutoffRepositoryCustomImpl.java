@@ -0,0 +1,46 @@
+package com.study.event.api.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class UserTokenCutoffRepositoryCustomImpl implements UserTokenCutoffRepositoryCustom {
+
+    // 영역을 지정하지 않은 native 쿼리는 2차 캐시 전체를 비우므로 이 테이블만 지정한다.
+    private static final String QUERY_SPACE = "tbl_user_token_cutoff";
+
+    private final EntityManager em;
+
+    // 조회 없이 insert 한 번으로 처리 (동시에 기록해도 가장 늦은 기준시각이 남는다.)
+    @Override
+    @Transactional
+    public void revokeIssuedBefore(String userId, LocalDateTime cutoff) {
+        nativeQuery("INSERT INTO tbl_user_token_cutoff (ev_user_id, cutoff) VALUES (:userId, :cutoff) " +
+                "ON DUPLICATE KEY UPDATE cutoff = GREATEST(cutoff, VALUES(cutoff))")
+                .setParameter("userId", userId)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime before, int limit) {
+        return nativeQuery("DELETE FROM tbl_user_token_cutoff WHERE cutoff < :before LIMIT :limit")
+                .setParameter("before", before)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private NativeQuery<?> nativeQuery(String sql) {
+        return em.unwrap(Session.class)
+                .createNativeQuery(sql)
+                .addSynchronizedQuerySpace(QUERY_SPACE);
+    }
+}
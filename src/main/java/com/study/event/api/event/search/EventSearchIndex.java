@@ -0,0 +1,619 @@
+package com.study.event.api.event.search;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 이벤트 제목(ev_title)과 설명(ev_desc)에 대한 메모리 역색인 (GET /events/search)
+// 한글은 형태소 분석 없이도 부분 검색이 되도록 2글자씩 자른 n-gram 을 색인어로 사용한다.
+// 검색은 항상 로그인한 회원의 이벤트 안에서만 하므로 회원별로 색인을 나누어
+// 전체 이벤트 수가 늘어나도 검색 비용은 해당 회원의 이벤트 수에만 비례한다.
+// 색인은 서버마다 따로 가지므로 전체 크기(max-postings)를 제한한다. 제한을 넘으면 가장 오래 검색하지 않은
+// 회원의 색인부터 버리고, 그 회원이 다시 검색하면 회원의 이벤트만 DB 에서 읽어 색인을 다시 만든다.
+// 색인이 준비되지 않았거나(최초 색인, 회원 재색인 중) 꺼져 있으면(search.index.enabled=false)
+// EventService 가 DB 에서 직접 검색한다. DB 검색은 회원의 이벤트 전체를 like 로 거르고 개수도 따로 세므로
+// 요청마다 회원 이벤트 수에 비례하는 스캔이 2번 든다. (search_index_fallbacks_total 로 확인)
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EventSearchIndex implements MeterBinder {
+
+    // 제목에 나온 단어는 설명보다 높은 점수를 준다.
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESC_WEIGHT = 1;
+
+    // 최초 색인시 DB 에서 한 번에 가져올 행 수
+    private static final int FETCH_SIZE = 1000;
+
+    // 최초 색인 실패시 재시도 간격 (5초, 10초, 20초 ... 최대 5분)
+    private static final long RETRY_BASE_SECONDS = 5;
+    private static final long RETRY_MAX_SECONDS = 300;
+
+    private final EntityManager em;
+
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    // 회원 PK => 회원의 색인
+    private final Map<String, UserIndex> indexes = new ConcurrentHashMap<>();
+
+    // 크기 제한으로 색인을 버린 회원 (다시 검색하면 재색인)
+    private final Set<String> evicted = ConcurrentHashMap.newKeySet();
+
+    // 재색인 작업이 예약된 회원 (같은 회원을 여러 번 읽지 않도록)
+    private final Set<String> reloading = ConcurrentHashMap.newKeySet();
+
+    // 크기 제한을 넘었을 때 한 스레드만 버릴 색인을 고른다.
+    private final Lock evictionLock = new ReentrantLock();
+
+    // 최초 색인 중에 삭제된 이벤트 (색인 작업이 삭제 전 데이터를 다시 넣지 않도록)
+    private final Set<Long> deletedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled = true;
+
+    // 전체 회원 색인의 (색인어, 이벤트) 쌍 개수 제한
+    // 넘으면 오래 검색하지 않은 회원의 색인부터 버려 제한의 90% 까지 줄인다.
+    @Value("${search.index.max-postings:5000000}")
+    private long maxPostings = 5_000_000L;
+
+    private final AtomicLong postingCount = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    // 메트릭 - 버린 회원 색인 수, DB 검색으로 넘긴 검색 수
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    // 최초 색인, 회원 재색인 작업 스레드
+    private ScheduledExecutorService loader;
+
+    // 최초 색인 시도 횟수 (loader 스레드에서만 사용)
+    private int buildAttempts;
+
+    // 검색 결과 한 페이지 (점수 순으로 정렬된 이벤트 PK 와 전체 적중 개수)
+    public static class Result {
+        private final List<Long> ids;
+        private final int totalCount;
+
+        Result(List<Long> ids, int totalCount) {
+            this.ids = ids;
+            this.totalCount = totalCount;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+    }
+
+    // 서버 시작시 기존 이벤트 전체를 색인 (요청 처리를 막지 않도록 별도 스레드에서 수행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            log.info("event search index disabled - searching in database");
+            return;
+        }
+        loader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "event-search-indexer");
+            t.setDaemon(true);
+            return t;
+        });
+        loader.execute(this::buildWithRetry);
+    }
+
+    @PreDestroy
+    private void stop() {
+        if (loader != null) loader.shutdownNow();
+    }
+
+    // 실패하면 간격을 늘려가며 다시 색인 (그동안 검색은 DB 에서 처리)
+    // 성공한 뒤에도 loader 는 회원 재색인에 계속 사용한다.
+    private void buildWithRetry() {
+        if (build()) return;
+        long delay = Math.min(RETRY_BASE_SECONDS << Math.min(buildAttempts++, 10), RETRY_MAX_SECONDS);
+        log.warn("{}초 후 이벤트 검색 색인 생성을 다시 시도합니다.", delay);
+        loader.schedule(this::buildWithRetry, delay, TimeUnit.SECONDS);
+    }
+
+    // 색인 생성에 성공하면 true
+    // 크기 제한을 넘으면 먼저 색인한 회원부터 버리고 계속 진행한다. (버린 회원은 검색할 때 재색인)
+    boolean build() {
+        long start = System.currentTimeMillis();
+        try {
+            Long count = readOnlyTransactionTemplate.execute(status -> {
+                Query<?> query = em.createQuery(
+                                "select e.id, e.eventUser.id, e.title, e.description from Event e", Object[].class)
+                        .unwrap(Query.class);
+
+                long rows = 0;
+                try (ScrollableResults results = query
+                        .setFetchSize(FETCH_SIZE)
+                        .setReadOnly(true)
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+
+                    while (results.next()) {
+                        Object[] row = results.get();
+                        Long id = (Long) row[0];
+                        String userId = (String) row[1];
+                        if (deletedWhileLoading.contains(id) || evicted.contains(userId)) continue;
+
+                        // 색인 도중 등록, 수정된 이벤트는 이미 최신 내용으로 들어가 있으므로 덮어쓰지 않는다.
+                        addPostings(userIndex(userId).put(id, (String) row[2], (String) row[3], false));
+                        rows++;
+                    }
+                }
+                return rows;
+            });
+
+            deletedWhileLoading.clear();
+
+            ready = true;
+            log.info("event search index built: {} events, {} postings, {} users evicted in {} ms",
+                    count, postingCount.get(), evicted.size(), System.currentTimeMillis() - start);
+            return true;
+
+        } catch (RuntimeException e) {
+            log.error("이벤트 검색 색인 생성에 실패했습니다.", e);
+            return false;
+        }
+    }
+
+    // 최초 색인이 끝났는지 여부 (색인이 끝나기 전에는 색인에 없는 회원도 DB 에서 검색해야 한다.)
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 이벤트를 색인에 추가하거나 새 내용으로 교체
+     * 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 반영한다.
+     * 색인을 버린 회원은 재색인할 때 DB 에서 다시 읽으므로 반영하지 않는다.
+     */
+    public void index(Long eventId, String userId, String title, String desc) {
+        if (!enabled) return;
+        afterCommit(() -> {
+            if (evicted.contains(userId)) return;
+            addPostings(userIndex(userId).put(eventId, title, desc, true));
+        });
+    }
+
+    // 이벤트를 색인에서 제거
+    public void remove(Long eventId, String userId) {
+        if (!enabled) return;
+        afterCommit(() -> {
+            if (!ready) deletedWhileLoading.add(eventId);
+            UserIndex index = indexes.get(userId);
+            if (index != null) addPostings(index.remove(eventId));
+        });
+    }
+
+    /**
+     * 회원의 이벤트 중 검색어를 모두 포함하는 이벤트를 점수 순으로 조회
+     * @param offset - 건너뛸 결과 수
+     * @param size - 한 페이지 결과 수
+     * @return 회원의 색인을 사용할 수 없으면(최초 색인 중, 크기 제한으로 버림, 재색인 중, 꺼짐) empty
+     *          - 이 때는 DB 에서 검색해야 한다.
+     */
+    public Optional<Result> search(String userId, String q, int offset, int size) {
+        if (!enabled) return Optional.empty();
+
+        if (evicted.contains(userId)) {
+            scheduleReload(userId);
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        UserIndex index = indexes.get(userId);
+        if (index == null ? !ready : index.loading) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        List<String> terms = new ArrayList<>(queryTerms(q));
+        if (terms.isEmpty() || index == null) {
+            return Optional.of(new Result(List.of(), 0));
+        }
+        return Optional.of(index.search(terms, offset, size));
+    }
+
+    // 색인어 => 이벤트 목록의 원소 개수로 색인 크기를 계산하고, 제한을 넘으면 회원 색인을 버린다.
+    private void addPostings(int delta) {
+        if (postingCount.addAndGet(delta) > maxPostings) evictLeastRecentlyUsed();
+    }
+
+    // 오래 검색하지 않은 회원의 색인부터 버려 제한의 90% 까지 줄인다.
+    // (매번 줄이지 않도록 여유를 두고, 다른 스레드가 이미 줄이는 중이면 맡긴다.)
+    private void evictLeastRecentlyUsed() {
+        if (!evictionLock.tryLock()) return;
+        try {
+            long target = maxPostings - maxPostings / 10;
+            if (postingCount.get() <= target) return;
+
+            List<Map.Entry<String, UserIndex>> candidates = new ArrayList<>(indexes.entrySet());
+            candidates.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+
+            int count = 0;
+            for (Map.Entry<String, UserIndex> entry : candidates) {
+                if (postingCount.get() <= target) break;
+                evict(entry.getKey(), entry.getValue());
+                count++;
+            }
+            log.warn("이벤트 검색 색인이 최대 크기({})를 넘어 회원 {}명의 색인을 버렸습니다. (해당 회원은 검색시 재색인)",
+                    maxPostings, count);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evict(String userId, UserIndex index) {
+        // 먼저 표시해야 이후 등록, 수정이 버린 색인에 다시 들어가지 않는다.
+        evicted.add(userId);
+        if (indexes.remove(userId, index)) {
+            postingCount.addAndGet(-index.clear());
+            evictions.increment();
+        }
+    }
+
+    // 색인을 버린 회원을 loader 스레드에서 재색인
+    private void scheduleReload(String userId) {
+        if (loader == null || !reloading.add(userId)) return;
+        try {
+            loader.execute(() -> reload(userId));
+        } catch (RejectedExecutionException e) {
+            reloading.remove(userId);
+        }
+    }
+
+    /**
+     * 회원의 이벤트만 DB 에서 다시 읽어 색인 (회원의 이벤트 수에 비례하는 쿼리 1번)
+     * 읽는 동안에는 검색을 DB 로 넘기고, 그 사이의 등록, 수정, 삭제는 새 색인에 바로 반영한다.
+     */
+    void reload(String userId) {
+        UserIndex fresh = new UserIndex();
+        fresh.loading = true;
+        UserIndex old = indexes.put(userId, fresh);
+        if (old != null) postingCount.addAndGet(-old.clear());
+        evicted.remove(userId);
+
+        try {
+            List<Object[]> rows = readOnlyTransactionTemplate.execute(status -> em.createQuery(
+                            "select e.id, e.title, e.description from Event e where e.eventUser.id = :userId",
+                            Object[].class)
+                    .setParameter("userId", userId)
+                    .getResultList());
+
+            for (Object[] row : rows) {
+                // 읽는 중에 다시 제한을 넘어 버려졌으면 중단 (다음 검색에서 재색인)
+                if (fresh.cleared) return;
+                addPostings(fresh.put((Long) row[0], (String) row[1], (String) row[2], false));
+            }
+            fresh.finishLoading();
+
+        } catch (RuntimeException e) {
+            log.error("회원 {} 의 이벤트 검색 색인 생성에 실패했습니다.", userId, e);
+            evict(userId, fresh);
+        } finally {
+            reloading.remove(userId);
+        }
+    }
+
+    private UserIndex userIndex(String userId) {
+        return indexes.computeIfAbsent(userId, k -> new UserIndex());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.index.ready", this, i -> i.ready ? 1 : 0)
+                .description("최초 색인 완료 여부")
+                .register(registry);
+        Gauge.builder("search.index.postings", postingCount, AtomicLong::get)
+                .description("색인 크기 (색인어, 이벤트) 쌍 개수 - search.index.max-postings 와 비교")
+                .register(registry);
+        Gauge.builder("search.index.users.evicted", evicted, Set::size)
+                .description("크기 제한으로 색인을 버린 뒤 아직 재색인하지 않은 회원 수")
+                .register(registry);
+        FunctionCounter.builder("search.index.evictions", evictions, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("search.index.fallbacks", fallbacks, LongAdder::sum)
+                .description("색인을 사용할 수 없어 DB 에서 검색한 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 색인할 단어 목록 (단어별 등장 횟수)
+     * 공백, 문장부호를 기준으로 단어를 나눈 뒤 한 글자는 그대로, 두 글자 이상은 2글자씩 잘라
+     * "봄꽃축제" => 봄꽃, 꽃축, 축제 처럼 만든다. 부분 검색을 위해 각 글자도 함께 색인한다.
+     */
+    static Map<String, Integer> indexTerms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.merge(word.substring(i, i + 1), 1, Integer::sum);
+                if (i + 1 < word.length()) {
+                    terms.merge(word.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어를 색인어로 변환
+     * 두 글자 이상 단어는 2-gram 만 사용하여 글자 순서까지 일치하는 이벤트만 찾고,
+     * 한 글자 단어는 글자 자체로 찾는다.
+     */
+    static Set<String> queryTerms(String q) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(q)) {
+            if (word.length() == 1) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    // 전각/반각, 대소문자 차이를 없앤 뒤 글자와 숫자가 아닌 문자를 기준으로 나눈다.
+    // (DB 검색도 같은 기준으로 나눈 단어를 사용)
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) return List.of();
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // 트랜잭션이 롤백되면 색인에도 반영하지 않는다.
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    // 한 회원의 역색인 (색인어 => 이벤트 PK 순으로 정렬된 가중치 목록)
+    private static class UserIndex {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // 마지막으로 검색, 색인한 시각 (크기 제한시 오래된 회원부터 버림)
+        private volatile long lastUsed = System.nanoTime();
+
+        // 재색인 중 (검색은 DB 로)
+        private volatile boolean loading;
+
+        // 크기 제한으로 버려진 색인 (이후 put 은 무시)
+        private volatile boolean cleared;
+
+        // 이 회원 색인의 (색인어, 이벤트) 쌍 개수
+        private int postingCount;
+
+        // 재색인 중 삭제된 이벤트 (DB 에서 읽은 삭제 전 데이터를 다시 넣지 않도록)
+        private final Set<Long> deletedWhileLoading = new HashSet<>();
+
+        private final Map<String, Posting> postings = new HashMap<>();
+
+        // 이벤트 PK => 이벤트의 색인어 (수정, 삭제시 기존 색인어를 지우기 위함)
+        private final Map<Long, String[]> documents = new HashMap<>();
+
+        // 리턴값은 늘어난 (색인어, 이벤트) 쌍의 개수
+        int put(Long eventId, String title, String desc, boolean replace) {
+            Map<String, Integer> terms = new HashMap<>();
+            indexTerms(title).forEach((t, c) -> terms.merge(t, c * TITLE_WEIGHT, Integer::sum));
+            indexTerms(desc).forEach((t, c) -> terms.merge(t, c * DESC_WEIGHT, Integer::sum));
+
+            lastUsed = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                if (cleared) return 0;
+                int delta = 0;
+                if (documents.containsKey(eventId)) {
+                    if (!replace) return 0;
+                    delta = removeTerms(eventId);
+                } else if (!replace && deletedWhileLoading.contains(eventId)) {
+                    return 0;
+                }
+                documents.put(eventId, terms.keySet().toArray(new String[0]));
+                terms.forEach((t, w) -> postings.computeIfAbsent(t, k -> new Posting()).put(eventId, w));
+                postingCount += terms.size();
+                return delta + terms.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int remove(Long eventId) {
+            lock.writeLock().lock();
+            try {
+                if (loading) deletedWhileLoading.add(eventId);
+                return removeTerms(eventId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void finishLoading() {
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                deletedWhileLoading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 색인을 비우고 줄어든 (색인어, 이벤트) 쌍의 개수를 리턴
+        int clear() {
+            lock.writeLock().lock();
+            try {
+                cleared = true;
+                int count = postingCount;
+                postingCount = 0;
+                postings.clear();
+                documents.clear();
+                deletedWhileLoading.clear();
+                return count;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private int removeTerms(Long eventId) {
+            String[] terms = documents.remove(eventId);
+            if (terms == null) return 0;
+
+            for (String term : terms) {
+                Posting posting = postings.get(term);
+                if (posting == null) continue;
+                posting.remove(eventId);
+                if (posting.size == 0) postings.remove(term);
+            }
+            postingCount -= terms.length;
+            return -terms.length;
+        }
+
+        Result search(List<String> terms, int offset, int size) {
+            lastUsed = System.nanoTime();
+            lock.readLock().lock();
+            try {
+                List<Posting> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    Posting posting = postings.get(term);
+                    if (posting == null) return new Result(List.of(), 0);
+                    lists.add(posting);
+                }
+
+                // 가장 짧은 목록을 기준으로 나머지 목록에 모두 있는 이벤트만 남긴다.
+                lists.sort(Comparator.comparingInt(p -> p.size));
+
+                int docCount = documents.size();
+                Posting shortest = lists.get(0);
+                long[] ids = new long[shortest.size];
+                double[] scores = new double[shortest.size];
+                int hits = 0;
+
+                candidates:
+                for (int i = 0; i < shortest.size; i++) {
+                    long eventId = shortest.ids[i];
+                    double score = 0;
+                    for (Posting posting : lists) {
+                        int weight = posting.weight(eventId);
+                        if (weight == 0) continue candidates;
+                        // 흔한 색인어일수록 점수 비중을 낮춘다. (tf-idf)
+                        score += weight * Math.log(1.0 + (double) docCount / posting.size);
+                    }
+                    ids[hits] = eventId;
+                    scores[hits] = score;
+                    hits++;
+                }
+
+                Integer[] order = new Integer[hits];
+                for (int i = 0; i < hits; i++) order[i] = i;
+                // 점수가 같으면 최근 등록한 이벤트(PK 가 큰 쪽)를 먼저
+                Arrays.sort(order, (a, b) -> scores[a] != scores[b]
+                        ? Double.compare(scores[b], scores[a])
+                        : Long.compare(ids[b], ids[a]));
+
+                int from = Math.min(offset, hits);
+                int to = Math.min(from + size, hits);
+                List<Long> page = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) page.add(ids[order[i]]);
+                return new Result(page, hits);
+
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    // 한 색인어의 (이벤트 PK, 가중치) 목록 - 박싱 없이 PK 순으로 정렬된 배열에 저장
+    private static class Posting {
+        private long[] ids = new long[2];
+        private int[] weights = new int[2];
+        private int size;
+
+        void put(long eventId, int weight) {
+            int i = Arrays.binarySearch(ids, 0, size, eventId);
+            if (i >= 0) {
+                weights[i] = weight;
+                return;
+            }
+            i = -i - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, i, ids, i + 1, size - i);
+            System.arraycopy(weights, i, weights, i + 1, size - i);
+            ids[i] = eventId;
+            weights[i] = weight;
+            size++;
+        }
+
+        void remove(long eventId) {
+            int i = Arrays.binarySearch(ids, 0, size, eventId);
+            if (i < 0) return;
+            System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+            System.arraycopy(weights, i + 1, weights, i, size - i - 1);
+            size--;
+        }
+
+        // 목록에 없으면 0 (가중치는 항상 1 이상)
+        int weight(long eventId) {
+            int i = Arrays.binarySearch(ids, 0, size, eventId);
+            return i < 0 ? 0 : weights[i];
+        }
+    }
+}
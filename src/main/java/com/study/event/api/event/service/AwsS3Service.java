@@ -1,23 +1,43 @@
 package com.study.event.api.event.service;
 
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 
 @Service
 @Slf4j
 public class AwsS3Service {
 
+    // S3 멀티파트 업로드의 파트 최소 크기 (5MB)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
     // AWS s3 버킷을 제어하는 객체
     private S3Client s3;
 
@@ -31,6 +51,31 @@ public class AwsS3Service {
     @Value("${aws.bucketName}")
     private String bucketName;
 
+    // S3 호환 서버 주소 (로컬 테스트용 MinIO 등, 비어있으면 AWS 사용)
+    @Value("${aws.endpoint:}")
+    private String endpoint;
+
+    // 이 크기를 넘는 파일은 멀티파트로 나누어 업로드
+    @Value("${aws.upload.multipart-threshold:16777216}")
+    private long multipartThreshold = 16 * 1024 * 1024;
+
+    @Value("${aws.upload.part-size:8388608}")
+    private int partSize = 8 * 1024 * 1024;
+
+    // 동시에 업로드할 파트 개수 (= 파트 버퍼 개수)
+    @Value("${aws.upload.parallelism:4}")
+    private int parallelism = 4;
+
+    // 멀티파트 업로드용 파트 버퍼 (모든 업로드가 공유)
+    // 버퍼가 모두 사용중이면 반납될 때까지 기다리므로 업로드 개수, 파일 크기와 관계없이
+    // 힙 사용량은 parallelism * partSize 를 넘지 않는다.
+    private BlockingQueue<byte[]> partBuffers;
+
+    private ExecutorService partUploader;
+
+    // 버킷에 저장된 파일 URL 의 공통 앞부분 (https://버킷.s3.리전.amazonaws.com/)
+    private String bucketBaseUrl;
+
     // AWS s3에 접근하여 인증하기
     @PostConstruct // 본 서비스객체가 생성될 때 단 1번 실행
     private void initAmazonS3 () {
@@ -38,19 +83,51 @@ public class AwsS3Service {
         // 액세스키와 비밀키로 사용자 인증
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        this.s3 = S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                                     .region(Region.of(region))
                                     .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                                    .build();
+                                    // 요청별 소요 시간 메트릭
+                                    .overrideConfiguration(c -> c.addExecutionInterceptor(
+                                            new S3MetricsInterceptor(Metrics.globalRegistry)));
+
+        // S3 호환 서버는 버킷명을 경로에 넣는 방식(path-style)으로 접근
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+
+        this.s3 = builder.build();
+        this.bucketBaseUrl = s3.utilities().getUrl(b -> b.bucket(bucketName).key("_")).toString();
+        this.bucketBaseUrl = bucketBaseUrl.substring(0, bucketBaseUrl.length() - 1);
+
+        int bufferSize = Math.max(partSize, MIN_PART_SIZE);
+        this.partBuffers = new ArrayBlockingQueue<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            partBuffers.add(new byte[bufferSize]);
+        }
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.partUploader = Executors.newFixedThreadPool(parallelism,
+                r -> new Thread(r, "s3-part-uploader-" + threadNo.incrementAndGet()));
+    }
+
+    @PreDestroy
+    private void close() {
+        partUploader.shutdown();
+        s3.close();
     }
 
     /**
-     * 버킷에 파일을 업로드하고 업로드한 버킷의 URL 을 리턴
-     * @param uploadFile - 파일의 바이너리
+     * 버킷에 파일을 스트리밍으로 업로드하고 업로드한 버킷의 URL 을 리턴
+     * 파일 전체를 메모리에 올리지 않으며, 큰 파일은 자동으로 멀티파트 업로드로 전환한다.
+     * @param inputStream - 파일의 내용
+     * @param contentLength - 파일 크기 (byte)
+     * @param contentType - 파일 MIME 타입 (모르면 null)
      * @param fileName - 저장할 파일명
      * @return - 저장된 URL
      */
-    public String uploadToS3Bucket (byte[] uploadFile, String fileName) {
+    public String uploadToS3Bucket (InputStream inputStream, long contentLength,
+                                    String contentType, String fileName) throws IOException {
 
         // 현재 날짜를 기반으로 폴더 생성하기
         // 2024-07-22 형식을 => 2024/07/22 로 바꿔야 함
@@ -58,16 +135,153 @@ public class AwsS3Service {
 
         String fullPath = datePath + "/" + fileName;
 
-        // 업로드 수행하기
-        PutObjectRequest request = PutObjectRequest.builder()
-                                                            .bucket(bucketName) // 버킷명
-                                                            .key(fullPath) // 저장경로
-                                                            .build();
+        return uploadObject(inputStream, contentLength, contentType, fullPath);
+    }
 
-        s3.putObject(request, RequestBody.fromBytes(uploadFile));
+    /**
+     * 지정한 경로(key)에 파일을 업로드
+     * @return - 저장된 URL
+     */
+    public String uploadObject (InputStream inputStream, long contentLength,
+                                String contentType, String key) throws IOException {
+
+        if (contentLength > multipartThreshold) {
+            uploadMultipart(inputStream, contentType, key);
+        } else {
+            // 업로드 수행하기
+            PutObjectRequest request = PutObjectRequest.builder()
+                                                                .bucket(bucketName) // 버킷명
+                                                                .key(key) // 저장경로
+                                                                .contentType(contentType)
+                                                                .build();
+
+            s3.putObject(request, RequestBody.fromInputStream(inputStream, contentLength));
+        }
 
         // 업로드된 경로 URL 을 반환하기
-        return s3.utilities().getUrl(b -> b.bucket(bucketName).key(fullPath)).toString();
+        return s3.utilities().getUrl(b -> b.bucket(bucketName).key(key)).toString();
+    }
+
+    // 버킷에 저장된 파일을 스트림으로 읽기 (사용 후 반드시 close)
+    public InputStream download(String key) {
+        return s3.getObject(GetObjectRequest.builder().bucket(bucketName).key(key).build());
+    }
+
+    /**
+     * 이 버킷에 저장된 파일의 URL 에서 저장경로(key)를 추출
+     * @return - 저장경로, 다른 곳의 URL 이면 null
+     */
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(bucketBaseUrl)) return null;
+        return URLDecoder.decode(url.substring(bucketBaseUrl.length()), StandardCharsets.UTF_8);
+    }
+
+    // 스트림을 파트 크기만큼 읽어 여러 파트를 동시에 업로드
+    private void uploadMultipart(InputStream inputStream, String contentType, String key) throws IOException {
+
+        String uploadId = s3.createMultipartUpload(
+                CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build()
+        ).uploadId();
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        try {
+            int partNumber = 0;
+            while (true) {
+                // 사용 가능한 버퍼가 생길 때까지 대기 (동시 업로드 파트 개수 제한)
+                byte[] buffer = partBuffers.take();
+
+                int length;
+                try {
+                    length = readFully(inputStream, buffer);
+                } catch (IOException | RuntimeException e) {
+                    partBuffers.add(buffer);
+                    throw e;
+                }
+
+                if (length == 0) {
+                    partBuffers.add(buffer);
+                    break;
+                }
+
+                int currentPart = ++partNumber;
+                parts.add(CompletableFuture.supplyAsync(
+                        () -> uploadPart(key, uploadId, currentPart, buffer, length), partUploader));
+
+                if (length < buffer.length) break; // 마지막 파트
+            }
+
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(CompletableFuture::join)
+                    .sorted(Comparator.comparing(CompletedPart::partNumber))
+                    .collect(Collectors.toList());
+
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+            log.info("multipart upload completed: {} ({} parts)", key, completedParts.size());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, parts);
+            throw new IOException("파일 업로드가 중단되었습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        try {
+            // 버퍼를 복사하지 않도록 스트림으로 감싸서 전달
+            UploadPartResponse response = s3.uploadPart(
+                    UploadPartRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) length)
+                            .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)
+            );
+            return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+        } finally {
+            partBuffers.add(buffer); // 버퍼 반납
+        }
+    }
+
+    // 실패한 멀티파트 업로드 취소 (업로드된 파트가 버킷에 남아 비용이 발생하지 않도록)
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        // 진행중인 파트가 끝나야 버퍼가 반납된다.
+        parts.forEach(p -> p.handle((r, e) -> null).join());
+        try {
+            s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("multipart upload abort failed: {}", key, e);
+        }
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+    private int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read == -1) break;
+            total += read;
+        }
+        return total;
     }
 
 }
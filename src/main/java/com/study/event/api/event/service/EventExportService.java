@@ -0,0 +1,173 @@
+package com.study.event.api.event.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 회원의 전체 이벤트를 NDJSON / CSV 로 내보내는 서비스 (GET /events/export)
+// 엔터티나 List 를 만들지 않고 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 쓰기 때문에
+// 이벤트가 아무리 많아도 메모리 사용량이 일정하다.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EventExportService {
+
+    // DB 에서 한 번에 가져올 행 수
+    private static final int FETCH_SIZE = 500;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv; charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            for (Format f : values()) {
+                if (f.extension.equalsIgnoreCase(value)) return f;
+            }
+            throw new IllegalArgumentException("format 은 ndjson 또는 csv 이어야 합니다.");
+        }
+    }
+
+    private final EntityManager em;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 회원의 이벤트를 등록 순서대로 out 에 기록
+     * @param userId - 로그인한 회원 PK
+     * @param format - 출력 형식
+     * @param out - 응답 스트림
+     */
+    @Transactional(readOnly = true)
+    public void export(String userId, Format format, OutputStream out) throws IOException {
+
+        // 엔터티가 아닌 컬럼 값만 조회하므로 영속성 컨텍스트에 아무것도 쌓이지 않는다.
+        Query<?> query = em.createQuery(
+                        "select e.id, e.title, e.description, e.image, e.date, e.createdAt " +
+                                "from Event e where e.eventUser.id = :userId order by e.id", Object[].class)
+                .setParameter("userId", userId)
+                .unwrap(Query.class);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = (format == Format.CSV) ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long rows = 0;
+        // 앞으로만 읽는 커서 (MariaDB 드라이버는 fetchSize 만큼씩 나누어 가져온다.)
+        try (ScrollableResults results = query
+                .setFetchSize(FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            rowWriter.header();
+            while (results.next()) {
+                rowWriter.row(results.get());
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("{} events exported for user {} as {}", rows, userId, format);
+    }
+
+    private interface RowWriter {
+        void header() throws IOException;
+        void row(Object[] row) throws IOException;
+    }
+
+    // 한 줄에 이벤트 하나씩 JSON 객체
+    private class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // 줄마다 flush 하지 않도록 generator 가 writer 를 닫거나 비우지 않게 한다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+
+        @Override
+        public void header() {
+        }
+
+        @Override
+        public void row(Object[] row) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("event-id", (Long) row[0]);
+            generator.writeStringField("title", (String) row[1]);
+            generator.writeStringField("desc", (String) row[2]);
+            generator.writeStringField("img-url", (String) row[3]);
+            generator.writeStringField("start-date", toText(row[4]));
+            generator.writeStringField("created-at", toText(row[5]));
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header() throws IOException {
+            writer.write("event-id,title,desc,img-url,start-date,created-at\r\n");
+        }
+
+        @Override
+        public void row(Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(escape(toText(row[i])));
+            }
+            writer.write("\r\n");
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다. (RFC 4180)
+        private String escape(String value) {
+            if (value == null) return "";
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static String toText(Object value) {
+        if (value == null) return null;
+        if (value instanceof LocalDate || value instanceof LocalDateTime) return value.toString();
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.event.api.event.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.event.api.config.HibernateConfig;
+import com.study.event.api.event.cache.EventCache;
+import com.study.event.api.event.dto.request.EventSaveDto;
+import com.study.event.api.event.entity.Event;
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.entity.Role;
+import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.search.EventSearchIndex;
+import com.study.event.api.exception.EventImportException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// 대량 이벤트 등록 서비스 (POST /events/bulk)
+// 요청 본문의 JSON 배열을 한 건씩 읽으면서 배치 크기만큼 모아 저장하므로
+// 요청 크기와 관계없이 메모리에는 한 배치 분량만 올라간다.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EventImportService {
+
+    private static final int BATCH_SIZE = HibernateConfig.JDBC_BATCH_SIZE;
+
+    private final EventUserRepository eventUserRepository;
+
+    private final EventCache eventCache;
+
+    private final EventSearchIndex eventSearchIndex;
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityManager em;
+
+    // 배치마다 따로 커밋하는 트랜잭션
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * JSON 배열 형태의 이벤트 목록을 등록
+     * 배치 단위로 커밋되므로 중간에 실패하면 그 전 배치까지는 저장된 상태로 남는다.
+     * @param inputStream - [{"title": .., "desc": .., "imageUrl": .., "beginDate": ..}, ...]
+     * @param userId - 로그인한 회원 PK
+     * @return - 등록된 이벤트 개수
+     * @throws EventImportException - 등록 제한, 형식 오류 등으로 중단된 경우 (저장된 개수와 실패한 위치 포함)
+     */
+    public int importEvents(InputStream inputStream, String userId) {
+
+        int imported = 0;
+        int position = 0; // 처리 중인 이벤트의 순번 (실패 위치)
+        List<EventSaveDto> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 이벤트 JSON 배열이어야 합니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                position = imported + batch.size();
+                batch.add(objectMapper.readValue(parser, EventSaveDto.class));
+
+                if (batch.size() == BATCH_SIZE) {
+                    position = imported;
+                    imported += saveBatch(batch, userId, imported);
+                    batch.clear();
+                }
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                position = imported + batch.size();
+                throw new IllegalArgumentException("이벤트 JSON 배열의 형식이 올바르지 않습니다.");
+            }
+
+            if (!batch.isEmpty()) {
+                position = imported;
+                imported += saveBatch(batch, userId, imported);
+            }
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("event import stopped for user {} at {} ({} imported)", userId, position, imported);
+            throw new EventImportException(imported, position, e);
+        }
+
+        log.info("{} events imported for user {}", imported, userId);
+        return imported;
+    }
+
+    private int saveBatch(List<EventSaveDto> batch, String userId, int importedSoFar) {
+        Integer saved = transactionTemplate.execute(status -> {
+
+            // 등록 제한 검사는 배치마다 한 번 (배치 전체가 들어갈 수 있을 때만 개수 증가)
+            int updated = eventUserRepository.increaseEventCount(
+                    userId, batch.size(), Role.COMMON, EventService.COMMON_EVENT_LIMIT);
+
+            if (updated == 0) {
+                if (!eventUserRepository.existsById(userId)) {
+                    throw new NoSuchElementException("회원 정보가 존재하지 않습니다.");
+                }
+                throw new IllegalStateException(
+                        "일반회원은 이벤트를 더 이상 등록할 수 없습니다. (등록된 개수: " + importedSoFar + ")");
+            }
+
+            EventUser eventUser = em.getReference(EventUser.class, userId);
+
+            for (EventSaveDto dto : batch) {
+                Event newEvent = dto.toEntity();
+                newEvent.setEventUser(eventUser);
+                em.persist(newEvent);
+                eventSearchIndex.index(newEvent.getId(), userId, newEvent.getTitle(), newEvent.getDescription());
+            }
+
+            // insert 를 배치로 전송한 뒤 영속성 컨텍스트를 비워 엔터티가 쌓이지 않게 한다.
+            em.flush();
+            em.clear();
+
+            eventCache.evictPages(userId);
+
+            return batch.size();
+        });
+
+        return saved == null ? 0 : saved;
+    }
+}
@@ -1,50 +1,93 @@
 package com.study.event.api.event.service;
 
 
+import com.study.event.api.event.cache.EventCache;
 import com.study.event.api.event.dto.request.EventSaveDto;
 import com.study.event.api.event.dto.response.EventDetailDto;
 import com.study.event.api.event.dto.response.EventOneDto;
 import com.study.event.api.event.entity.Event;
 import com.study.event.api.event.entity.EventUser;
 import com.study.event.api.event.entity.Role;
+import com.study.event.api.event.repository.EventCursor;
+import com.study.event.api.event.repository.EventListVersion;
 import com.study.event.api.event.repository.EventRepository;
 import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.repository.EventVersion;
+import com.study.event.api.event.search.EventSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true) // 모든 public 메서드 실행 시간 (class, method 태그)
 @RequiredArgsConstructor
 @Slf4j
 @Transactional // 반드시 붙여야 함
 public class EventService {
 
+    // 한 페이지에 보여줄 이벤트 개수
+    private static final int PAGE_SIZE = 4;
+
+    // 일반회원(COMMON)이 등록할 수 있는 최대 이벤트 개수
+    static final int COMMON_EVENT_LIMIT = 4;
+
     private final EventRepository eventRepository;
 
     private final EventUserRepository eventUserRepository;
 
-    // 전체 조회 서비스
+    private final EventCache eventCache;
+
+    // 조회용 읽기 전용 트랜잭션 (캐시에 없을 때만 시작)
+    // 기본 TransactionTemplate 이 @Primary 이므로 이름으로 지정해야 읽기 전용 빈이 주입된다.
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    private final EventSearchIndex eventSearchIndex;
+
+    // 전체 조회 서비스 (같은 페이지를 반복 조회하면 캐시에서 응답)
+    // 캐시 적중시에는 커넥션도 사용하지 않도록 트랜잭션을 미리 시작하지 않는다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> getEvents(int pageNo, String sort, String userId) {
+        return eventCache.getPage(userId, sort, pageNo,
+                () -> readOnlyTransactionTemplate.execute(status -> findEvents(pageNo, sort, userId)));
+    }
 
-        Pageable pageable = PageRequest.of(pageNo - 1, 4);
+    // 회원의 이벤트 목록 버전과 전체 개수 (목록 응답의 ETag, 회원이 없으면 null)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventListVersion getEventListVersion(String userId) {
+        return eventCache.getListVersion(userId, () -> readOnlyTransactionTemplate.execute(
+                status -> eventUserRepository.findEventListVersionById(userId).orElse(null)));
+    }
 
-        Page<Event> eventsPage = eventRepository.findEvents(pageable, sort, userId);
+    private Map<String, Object> findEvents(int pageNo, String sort, String userId) {
 
-        // 이벤트 목록
-        List<Event> events = eventsPage.getContent();
+        Pageable pageable = PageRequest.of(pageNo - 1, PAGE_SIZE);
 
-        List<EventDetailDto> eventDtoList = events
-                .stream().map(EventDetailDto::new)
-                .collect(Collectors.toList());
+        // 전체 개수는 목록 버전과 함께 읽은 값을 사용 (컨트롤러가 ETag 확인에 먼저 읽으므로 보통 캐시에 있음)
+        // 버전, 목록 캐시는 같은 시점에 무효화되므로 두 값은 같은 세대의 데이터다.
+        EventListVersion listVersion = getEventListVersion(userId);
+        long totalCount = listVersion == null ? 0 : listVersion.getEventCount();
+
+        // 엔터티 대신 목록에 필요한 컬럼만 DTO 로 바로 조회
+        Page<EventDetailDto> eventsPage = eventRepository.findEvents(pageable, sort, userId, totalCount);
+
+        // 이벤트 목록
+        List<EventDetailDto> eventDtoList = eventsPage.getContent();
+        eventDtoList.forEach(this::attachThumbnail);
 
         // 총 이벤트 개수
         long totalElements = eventsPage.getTotalElements();
@@ -56,38 +99,166 @@ public class EventService {
         return map;
     }
 
-    // 이벤트 등록
-    public void saveEvent(EventSaveDto dto, String userId) {
+    // 커서 기반 조회 서비스 (페이지가 깊어져도 앞의 데이터를 건너뛰며 읽지 않는다.)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getEventsByCursor(String cursor, String sort, String userId) {
+
+        EventCursor current = (cursor == null) ? null : EventCursor.decode(cursor);
+        boolean backward = current != null && current.getDirection() == EventCursor.Direction.PREV;
+
+        List<EventDetailDto> events = new ArrayList<>(
+                eventRepository.findEventsByCursor(current, PAGE_SIZE, sort, userId)
+        );
+
+        // 한 개를 더 읽어왔다면 진행 방향으로 데이터가 더 남아있다는 뜻
+        boolean hasMore = events.size() > PAGE_SIZE;
+        if (hasMore) {
+            // 이전 페이지 조회시에는 가장 앞의 데이터가, 다음 페이지 조회시에는 가장 뒤의 데이터가 초과분
+            events.remove(backward ? 0 : events.size() - 1);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+
+        if (!events.isEmpty()) {
+            EventDetailDto first = events.get(0);
+            EventDetailDto last = events.get(events.size() - 1);
+
+            if (backward) {
+                nextCursor = cursorOf(last, sort, EventCursor.Direction.NEXT);
+                if (hasMore) prevCursor = cursorOf(first, sort, EventCursor.Direction.PREV);
+            } else {
+                if (hasMore) nextCursor = cursorOf(last, sort, EventCursor.Direction.NEXT);
+                if (current != null) prevCursor = cursorOf(first, sort, EventCursor.Direction.PREV);
+            }
+        }
+
+        events.forEach(this::attachThumbnail);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("events", events);
+        map.put("nextCursor", nextCursor);
+        map.put("prevCursor", prevCursor);
+
+        return map;
+    }
+
+    // 제목, 설명 검색 서비스 (점수가 높은 순)
+    // 회원의 색인을 사용할 수 없으면(준비중, 크기 제한으로 버림, 재색인 중, 꺼짐) DB 에서 직접 검색한다. (최근 등록순)
+    @Transactional(readOnly = true)
+    public Map<String, Object> searchEvents(String q, int pageNo, String userId) {
+
+        Optional<EventSearchIndex.Result> indexed =
+                eventSearchIndex.search(userId, q, (pageNo - 1) * PAGE_SIZE, PAGE_SIZE);
+        if (indexed.isEmpty()) {
+            return searchEventsInDatabase(q, pageNo, userId);
+        }
+
+        EventSearchIndex.Result result = indexed.get();
 
+        // 색인에서 찾은 PK 로 한 번에 조회한 뒤 검색 점수 순서대로 다시 정렬
+        Map<Long, EventDetailDto> found = eventRepository.findEventsByIds(result.getIds()).stream()
+                .collect(Collectors.toMap(e -> Long.valueOf(e.getId()), Function.identity()));
 
-        // 로그인한 회원 정보 조회
-        EventUser eventUser = eventUserRepository.findById(userId).orElseThrow();
+        List<EventDetailDto> events = result.getIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        events.forEach(this::attachThumbnail);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("events", events);
+        map.put("totalCount", result.getTotalCount());
+
+        return map;
+    }
+
+    private Map<String, Object> searchEventsInDatabase(String q, int pageNo, String userId) {
+        Page<EventDetailDto> eventsPage = eventRepository.searchEvents(
+                userId, EventSearchIndex.words(q), PageRequest.of(pageNo - 1, PAGE_SIZE));
+
+        List<EventDetailDto> events = eventsPage.getContent();
+        events.forEach(this::attachThumbnail);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("events", events);
+        map.put("totalCount", eventsPage.getTotalElements());
+
+        return map;
+    }
+
+    // 목록에서는 원본 대신 사용할 수 있는 썸네일 URL 을 함께 전달
+    // 축소본 여부는 목록 쿼리에서 함께 읽었으므로 URL 만 계산한다. (트랜잭션 안에서 S3 를 호출하지 않음)
+    private void attachThumbnail(EventDetailDto dto) {
+        dto.setThumbUrl(imageDerivativeService.urlOf(
+                dto.getImgUrl(), dto.isImageDerived(), ImageDerivativeService.Variant.THUMBNAIL));
+    }
+
+    // 이벤트의 정렬값과 PK 로 커서 문자열 생성
+    private String cursorOf(EventDetailDto e, String sort, EventCursor.Direction direction) {
+        String sortValue = "date".equals(sort) ? e.getStartDate().toString() : e.getTitle();
+        return new EventCursor(direction, sortValue, Long.valueOf(e.getId())).encode();
+    }
+
+    // 이벤트 등록
+    public void saveEvent(EventSaveDto dto, String userId) {
 
         // 로그인한 회원 권한 조회 확인 + 등록 개수 확인
-        // 권한에 따른 글쓰기 개수 제한
-        if (eventUser.getRole() == Role.COMMON && // 회원등급이 COMMON 이면서
-                eventUser.getEventList().size() >= 4) { // 작성한 이벤트 게시글이 4개 이상이라면
+        // 권한에 따른 글쓰기 개수 제한 - 회원등급이 COMMON 이면서 작성한 이벤트 게시글이 4개 이상이라면 증가하지 않음
+        // 검사와 증가를 한 번의 update 로 처리하여 동시 등록시에도 제한을 넘지 않도록 한다.
+        int updated = eventUserRepository.increaseEventCount(userId, 1, Role.COMMON, COMMON_EVENT_LIMIT);
+
+        if (updated == 0) {
+            if (!eventUserRepository.existsById(userId)) {
+                throw new NoSuchElementException("회원 정보가 존재하지 않습니다.");
+            }
             throw new IllegalStateException("일반회원은 이벤트를 더 이상 등록할 수 없습니다.");
         }
 
+        // 로그인한 회원 정보 (FK 설정용 프록시 - 조회 쿼리가 나가지 않음)
+        EventUser eventUser = eventUserRepository.getReferenceById(userId);
+
         Event newEvent = dto.toEntity();
         newEvent.setEventUser(eventUser);
 
         Event savedEvent = eventRepository.save(newEvent);
         log.info("saved event: {}", savedEvent);
+
+        eventCache.evictPages(userId);
+        eventSearchIndex.index(savedEvent.getId(), userId, savedEvent.getTitle(), savedEvent.getDescription());
     }
 
     // 이벤트 단일 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EventOneDto getEventDetail(Long id) {
 
-        Event foundEvent = eventRepository.findById(id).orElseThrow();
+        return eventCache.getDetail(id, () -> readOnlyTransactionTemplate.execute(status -> {
+            Event foundEvent = eventRepository.findById(id).orElseThrow();
+            return new EventOneDto(foundEvent);
+        }));
+    }
 
-        return new EventOneDto(foundEvent);
+    // 이벤트 버전 정보 (단일 조회 응답의 ETag, Last-Modified, 이벤트가 없으면 null)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventVersion getEventVersion(Long id) {
+        return eventCache.getDetailVersion(id, () -> readOnlyTransactionTemplate.execute(
+                status -> eventRepository.findVersionById(id).orElse(null)));
     }
 
     // 이벤트 삭제
     public void deleteEvent(Long id) {
-        eventRepository.deleteById(id);
+        Event foundEvent = eventRepository.findById(id).orElseThrow();
+        String userId = foundEvent.getEventUser().getId();
+
+        // 작성자의 이벤트 개수 감소
+        eventUserRepository.decreaseEventCount(userId);
+
+        eventRepository.delete(foundEvent);
+
+        eventCache.evictDetail(id);
+        eventCache.evictPages(userId);
+        eventSearchIndex.remove(id, userId);
     }
 
     // 이벤트 수정
@@ -96,6 +267,15 @@ public class EventService {
         foundEvent.changeEvent(dto);
 
         eventRepository.save(foundEvent);
+
+        String userId = foundEvent.getEventUser().getId();
+
+        // 목록에 보이는 제목, 날짜가 바뀌었을 수 있으므로 목록 버전도 증가
+        eventUserRepository.increaseEventListVersion(userId);
+
+        eventCache.evictDetail(id);
+        eventCache.evictPages(userId);
+        eventSearchIndex.index(id, userId, foundEvent.getTitle(), foundEvent.getDescription());
     }
 
 }
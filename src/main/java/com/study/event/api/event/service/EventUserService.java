@@ -1,47 +1,67 @@
 package com.study.event.api.event.service;
 
+import com.study.event.api.auth.PasswordHasher;
 import com.study.event.api.auth.TokenProvider;
+import com.study.event.api.auth.revocation.UsedRefreshTokenStore;
+import com.study.event.api.auth.revocation.UserTokenCutoffStore;
 import com.study.event.api.event.dto.request.LoginRequestDto;
 import com.study.event.api.event.dto.request.EventUserSaveDto;
 import com.study.event.api.event.dto.response.LoginResponseDto;
-import com.study.event.api.event.entity.EmailVerification;
 import com.study.event.api.event.entity.EventUser;
-import com.study.event.api.event.repository.EmailVerificationRepository;
 import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.verification.VerificationCodeStore;
 import com.study.event.api.exception.LoginFailException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.internet.MimeMessage;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 public class EventUserService {
 
+    // 인증 코드 유효시간
+    private static final Duration CODE_TTL = Duration.ofMinutes(5);
+
     private final EventUserRepository eventUserRepository;
-    private final EmailVerificationRepository emailVerificationRepository;
 
-    @Value("${study.mail.host}") // SpringFramework 의 @Value 로 가져오기
-    private String mailHost;
+    // 인증 코드 저장소 (만료된 코드는 저장소가 알아서 제거)
+    private final VerificationCodeStore verificationCodeStore;
 
-    // 이메일 전송 객체
-    private final JavaMailSender mailSender;
+    // 이메일 발송 대기열 (실제 전송은 커밋 이후 백그라운드에서 처리)
+    private final MailOutboxService mailOutboxService;
 
-    // 패스워드 암호화 객체
-    private final PasswordEncoder encoder;
+    // 패스워드 암호화 객체 (전용 스레드풀에서 실행)
+    private final PasswordHasher passwordHasher;
 
     // 토큰 생성 객체
     private final TokenProvider tokenProvider;
 
+    // 회원 단위 access 토큰 무효화 (DB + 메모리 캐시)
+    private final UserTokenCutoffStore userTokenCutoffStore;
+
+    // 사용한 refresh 토큰 기록 (DB + 메모리 캐시)
+    private final UsedRefreshTokenStore usedRefreshTokenStore;
+
+    // 2차 캐시 통계 조회용
+    private final EntityManagerFactory entityManagerFactory;
+
     // 이메일 중복확인 처리
     public boolean checkEmailDuplicate(String email) {
 
@@ -67,15 +87,8 @@ public class EventUserService {
 
         if (!eventUser.isEmailVerified() || eventUser.getPassword() == null) { // 이메일인증이 안끝났거나 비밀번호가 없는경우
 
-            // 해당 회원의 인증코드
-            EmailVerification ev = emailVerificationRepository.findByEventUser(eventUser).orElse(null);
-
-            if (ev != null) { // 인증코드가 없는게 아니면 인증코드 삭제하기
-                emailVerificationRepository.delete(ev);
-            }
-
-            // 인증코드 재발송하기
-            generateAndSendCode(email, eventUser);
+            // 인증코드 재발송하기 (기존 인증코드는 새 코드로 교체됨)
+            generateAndSendCode(email);
 
             return true;
         }
@@ -90,24 +103,18 @@ public class EventUserService {
                 .email(email)
                 .build();
 
-        EventUser savedUser = eventUserRepository.save(newEventUser);
+        eventUserRepository.save(newEventUser);
 
-        generateAndSendCode(email, savedUser);
+        generateAndSendCode(email);
 
     }
 
-    private void generateAndSendCode(String email, EventUser eventUser) {
+    private void generateAndSendCode(String email) {
         // 2. 이메일 인증 코드 발송
         String code = sendVerificationEmail(email);
 
-        // 3. 인증 코드 정보를 데이터베이스에 저장
-        EmailVerification verification = EmailVerification.builder()
-                .verificationCode(code) // 인증 코드
-                .expiryDate(LocalDateTime.now().plusMinutes(5)) // 만료 시간 (5분 뒤)
-                .eventUser(eventUser) // FK
-                .build();
-
-        emailVerificationRepository.save(verification);
+        // 3. 인증 코드 저장 (만료 시간 5분 뒤)
+        verificationCodeStore.save(email, code, CODE_TTL);
     }
 
     // 이메일 인증 코드 보내기
@@ -116,35 +123,16 @@ public class EventUserService {
         // 검증 코드 생성하기
         String code = generateVerificationCode();
 
-        // 이메일을 전송할 객체 생성
-        MimeMessage mimeMessage = mailSender.createMimeMessage();
-
-        try {
-            MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-
-            // 누구에게 이메일을 보낼 것인지
-            messageHelper.setTo(email);
-            // 이메일 제목 설정
-            messageHelper.setSubject("[인증메일] 중앙정보스터디 가입 인증 메일입니다.");
-            // 이메일 내용 설정
-            messageHelper.setText(
-                    "인증 코드: <b style=\"font-weight: 700; letter-spacing: 5px; font-size: 30px;\">" + code + "</b>"
-                    , true
-            );
-
-            // 전송자의 이메일 주소
-            messageHelper.setFrom(mailHost);
-
-            // 이메일 보내기
-            mailSender.send(mimeMessage);
-
-            log.info("{} 님에게 이메일 전송!", email);
+        // 이메일을 발송 대기열에 저장 (현재 트랜잭션이 커밋되면 발송된다.)
+        mailOutboxService.enqueue(
+                email, // 누구에게 이메일을 보낼 것인지
+                "[인증메일] 중앙정보스터디 가입 인증 메일입니다.", // 이메일 제목
+                "인증 코드: <b style=\"font-weight: 700; letter-spacing: 5px; font-size: 30px;\">" + code + "</b>" // 이메일 내용
+        );
 
-            return code;
+        log.info("{} 님에게 보낼 인증 메일 등록!", email);
 
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return code;
     }
 
     // 검증 코드 생성 로직 1000~9999 사이의 4자리 숫자
@@ -155,43 +143,29 @@ public class EventUserService {
     // 인증코드 체크
     public boolean isMatchCode(String email, String code) {
 
-        // 이메일을 통해 회원정보를 탐색
-        EventUser eventUser = eventUserRepository.findByEmail(email)
-                .orElse(null);
-
-        if (eventUser != null) {
-            // 인증코드가 있는지 탐색
-            EmailVerification ev = emailVerificationRepository.findByEventUser(eventUser).orElse(null);
-
-            // 인증코드가 있고 만료시간이 지나지 않았고 코드번호가 일치할 경우
-            if (
-                    ev != null
-                            && ev.getExpiryDate().isAfter(LocalDateTime.now())
-                            && code.equals(ev.getVerificationCode())
-            ) {
-                // 이메일 인증여부 true로 수정
-                eventUser.setEmailVerified(true);
-                eventUserRepository.save(eventUser); // UPDATE
-
-                // 인증코드 데이터베이스에서 삭제
-                emailVerificationRepository.delete(ev);
-                return true;
-            } else {  // 인증코드가 틀렸거나 만료된 경우
-                // 인증코드 재발송
-                // 원래 인증 코드 삭제
-                emailVerificationRepository.delete(ev);
-
-                // 새인증코드 발급 이메일 재전송
-                // 데이터베이스에 새 인증코드 저장
-                generateAndSendCode(email, eventUser);
-                return false;
-            }
+        // 인증코드가 있고 만료시간이 지나지 않았고 코드번호가 일치할 경우 (커밋되면 저장소에서 삭제됨)
+        if (verificationCodeStore.matchAndRemove(email, code)) {
+
+            // 이메일을 통해 회원정보를 탐색
+            EventUser eventUser = eventUserRepository.findByEmail(email).orElse(null);
+            if (eventUser == null) return false;
+
+            // 이메일 인증여부 true로 수정
+            eventUser.setEmailVerified(true);
+            eventUserRepository.save(eventUser); // UPDATE
+            return true;
+        }
 
+        // 인증코드가 틀렸거나 만료된 경우 - 가입중인 회원이면 새인증코드 발급 이메일 재전송
+        if (eventUserRepository.existsByEmail(email)) {
+            generateAndSendCode(email);
         }
         return false;
     }
 
     // 회원가입 마무리
+    // 암호화를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (저장은 리포지토리 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void confirmSignUp(EventUserSaveDto dto) {
 
         // 기존 회원 정보 조회
@@ -203,13 +177,19 @@ public class EventUserService {
 
         // 데이터 반영 (패스워드, 가입시간)
         String password = dto.getPassword();
-        String encodedPassword = encoder.encode(password); // 암호화
-        foundUser.confirm(encodedPassword);
+        String encodedPassword = passwordHasher.encode(password); // 암호화
 
-        eventUserRepository.save(foundUser);
+        // 조회한 엔터티는 트랜잭션 밖이라 준영속 상태 - save 로 병합하면 암호화하는 동안 바뀐 컬럼을 덮어쓰므로 필요한 컬럼만 변경
+        int updated = eventUserRepository.confirmSignUp(
+                foundUser.getId(), foundUser.getPassword(), encodedPassword, LocalDateTime.now());
+        if (updated == 0) {
+            throw new RuntimeException("회원 정보가 변경되었습니다. 다시 시도해주세요.");
+        }
     }
 
     // 회원 인증 처리 (login)
+    // 비밀번호 검증을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponseDto authenticate (final LoginRequestDto dto) { // 매개변수에 final 붙이면 해당 변수는 다른 변수로 변경 불가
         // 이메일을 통해 회원정보 조회
         EventUser eventUser = eventUserRepository.findByEmail(dto.getEmail())
@@ -224,10 +204,18 @@ public class EventUserService {
         String inputPassword = dto.getPassword(); // 방금 입력한 비밀번호
         String encodedPassword = eventUser.getPassword(); // DB 에 있는 암호화 된 비밀번호
 
-        if (!encoder.matches(inputPassword, encodedPassword)) {
+        if (!passwordHasher.matches(inputPassword, encodedPassword)) {
             throw new LoginFailException("비밀번호가 틀렸습니다.");
         }
 
+        // 이전 work factor 로 암호화된 비밀번호는 방금 확인한 원본으로 다시 암호화하여 저장
+        if (passwordHasher.needsRehash(encodedPassword)) {
+            // 그 사이 비밀번호가 바뀌었으면 변경하지 않는다. (이번 로그인은 조회한 비밀번호로 검증했으므로 그대로 성공)
+            int updated = eventUserRepository.updatePassword(
+                    eventUser.getId(), encodedPassword, passwordHasher.encode(inputPassword));
+            log.info("password rehashed: {} ({})", eventUser.getEmail(), updated == 1 ? "updated" : "skipped");
+        }
+
         // 로그인 성공한 후,
         // 인증정보를 어떻게 관리할 것인가? 세션 or 쿠키 or 토큰
         // 인증정보 (이메일, 닉네임, 프사, 토큰정보) 를 클라이언트에게 전송
@@ -242,18 +230,50 @@ public class EventUserService {
         // --> 토큰 사용 JWT (JSON Web Token)
 
         // 토큰 생성하기
-        String token = tokenProvider.createToken(eventUser);
+        return issueTokens(eventUser);
+    }
+
+    /**
+     * refresh 토큰으로 access 토큰 재발급
+     * refresh 토큰은 한 번만 사용할 수 있고, 재발급할 때마다 새 refresh 토큰을 함께 발급한다. (rotation)
+     * 권한은 DB 의 현재 값으로 다시 넣으므로 등급 변경이 새 토큰에 반영된다.
+     */
+    @Transactional(readOnly = true)
+    public LoginResponseDto refresh(String refreshToken) {
+        TokenProvider.RefreshTokenInfo info;
+        try {
+            info = tokenProvider.validateRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new LoginFailException("유효하지 않은 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        // 이미 사용한 토큰 (동시에, 또는 다른 서버에서 같은 토큰으로 요청한 경우 하나만 성공)
+        if (!usedRefreshTokenStore.markUsed(info.getTokenId(), info.getExpiresAt())) {
+            log.warn("refresh token reused: {}", info.getUserId());
+            throw new LoginFailException("이미 사용된 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        EventUser eventUser = eventUserRepository.findById(info.getUserId())
+                .orElseThrow(() -> new LoginFailException("가입된 회원이 아닙니다."));
 
+        return issueTokens(eventUser);
+    }
+
+    private LoginResponseDto issueTokens(EventUser eventUser) {
         return LoginResponseDto.builder()
                 .email(eventUser.getEmail())
                 .role(eventUser.getRole().toString())
-                .token(token)
+                .token(tokenProvider.createToken(eventUser))
+                .refreshToken(tokenProvider.createRefreshToken(eventUser))
                 .build();
     }
 
     // 등업 중간처리
     public LoginResponseDto promoteToPremium(String userId) {
 
+        // 무효화 기준시각 - 아래에서 새로 발급하는 토큰보다 먼저 정해야 새 토큰이 무효화되지 않는다.
+        Instant cutoff = Instant.now();
+
         // 회원 탐색하기
         EventUser eventUser = eventUserRepository.findById(userId).orElseThrow(); // 못찾으면 에러나기 때문에 에러받아야 함.
 
@@ -261,14 +281,32 @@ public class EventUserService {
         eventUser.promoteToPremium(); // setter 도 권한부여가능하지만 메소드 이름으로 명확하게 뭐하는건지 지정
         EventUser promotedUser = eventUserRepository.save(eventUser);
 
+        // 이전 등급(COMMON)이 들어있는 기존 access 토큰은 모두 무효화
+        // 다른 기기에서는 refresh 토큰으로 새 등급의 토큰을 받는다. (등급 변경이 커밋된 뒤에 반영, 롤백되면 무효화하지 않음)
+        userTokenCutoffStore.revokeUserTokensIssuedBefore(userId, cutoff);
+
         // 등급 변경한 내용을 업데이트한 토큰 재발급
-        String token = tokenProvider.createToken(promotedUser);
+        return issueTokens(promotedUser);
 
-        return LoginResponseDto.builder()
-                                            .token(token)
-                                            .role(promotedUser.getRole().toString())
-                                            .email(promotedUser.getEmail())
-                                            .build();
+    }
 
+    // 회원 2차 캐시 통계 (영역별 적중, 실패, 저장 횟수와 캐시된 개수)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> userCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (String region : new String[]{EventUser.CACHE_REGION, EventUser.EMAIL_CACHE_REGION}) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            if (stats == null) continue;
+
+            Map<String, Object> regionMap = new LinkedHashMap<>();
+            regionMap.put("hit", stats.getHitCount());
+            regionMap.put("miss", stats.getMissCount());
+            regionMap.put("put", stats.getPutCount());
+            regionMap.put("size", stats.getElementCountInMemory());
+            map.put(region, regionMap);
+        }
+        return map;
     }
-}
\ No newline at end of file
+}
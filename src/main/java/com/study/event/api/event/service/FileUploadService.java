@@ -1,20 +1,25 @@
 package com.study.event.api.event.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @Slf4j
 @RequiredArgsConstructor
 public class FileUploadService {
 
     private final AwsS3Service s3Service;
 
+    private final ImageDerivativeService imageDerivativeService;
+
     /**
      * 파일 업로드 처리
      * @param profileImage - 클라이언트가 전송한 파일 바이너리 객체
@@ -26,11 +31,19 @@ public class FileUploadService {
         String uniqueFileName = UUID.randomUUID() + "_" + profileImage.getOriginalFilename();
 
         // 파일을 aws S3 버킷에 저장하기
-        String url = s3Service.uploadToS3Bucket(profileImage.getBytes(), uniqueFileName);
+        // getBytes() 로 파일 전체를 메모리에 복사하지 않고 스트림으로 전달
+        String url;
+        try (InputStream inputStream = profileImage.getInputStream()) {
+            url = s3Service.uploadToS3Bucket(
+                    inputStream, profileImage.getSize(), profileImage.getContentType(), uniqueFileName);
+        }
+
+        // 썸네일 등 축소본은 백그라운드에서 만들어 원본 옆에 저장
+        imageDerivativeService.submit(url, profileImage.getContentType());
 
         // url을 데이터베이스에 저장하기
 
 
-        return "url";
+        return url;
     }
 }
@@ -0,0 +1,210 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.event.entity.ImageDerivative;
+import com.study.event.api.event.repository.ImageDerivativeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 이미지의 축소본(썸네일 등)을 백그라운드에서 만들어 원본 옆에 저장하는 서비스
+// 원본이 2024/07/22/abc_cat.png 이면 2024/07/22/abc_cat.png.thumb.jpg 처럼 원본 경로 뒤에 접미사를 붙여 저장한다.
+// 모든 축소본을 올린 뒤 tbl_image_derivative 에 원본 URL 을 기록하고, 목록 조회는 이 기록이 있는 이미지만
+// 축소본 URL 을 준다. (없으면 null - 클라이언트는 원본 URL 로 대체, 요청 처리 중에는 S3 를 호출하지 않음)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    // 만들 축소본 종류 (접미사, 긴 변의 최대 길이)
+    public enum Variant {
+        THUMBNAIL(".thumb.jpg", 320),
+        MEDIUM(".medium.jpg", 1024);
+
+        private final String suffix;
+        private final int maxEdge;
+
+        Variant(String suffix, int maxEdge) {
+            this.suffix = suffix;
+            this.maxEdge = maxEdge;
+        }
+    }
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final AwsS3Service s3Service;
+
+    private final ImageDerivativeRepository imageDerivativeRepository;
+
+    @Value("${image.derivative.workers:2}")
+    private int workers = 2;
+
+    // 작업 대기열이 가득 차면 새 작업은 버린다. (업로드 요청은 늦추지 않고, 축소본 없이 원본을 사용)
+    @Value("${image.derivative.queue-capacity:50}")
+    private int queueCapacity = 50;
+
+    // 디코딩하기 전에 크기를 확인하여 이보다 픽셀 수가 많은 이미지는 처리하지 않는다. (기본 4천만 픽셀)
+    @Value("${image.derivative.max-pixels:40000000}")
+    private long maxPixels = 40_000_000L;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    private void start() {
+        AtomicInteger threadNo = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "image-derivative-" + threadNo.incrementAndGet()),
+                (r, e) -> log.warn("축소본 생성 대기열이 가득 차 작업을 버립니다. (대기 {}개)", e.getQueue().size())
+        );
+    }
+
+    @PreDestroy
+    private void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * 업로드된 이미지의 축소본 생성을 예약
+     * @param originalUrl - 업로드된 원본 이미지 URL
+     * @param contentType - 원본 MIME 타입 (이미지가 아니면 무시)
+     */
+    public void submit(String originalUrl, String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) return;
+
+        String key = s3Service.keyOf(originalUrl);
+        if (key == null) return;
+
+        executor.execute(() -> createDerivatives(originalUrl, key));
+    }
+
+    /**
+     * 원본 이미지 URL 에 대응하는 축소본 URL (경로 계산만 하고 S3 는 호출하지 않는다.)
+     * 축소본은 비동기로 만들어지므로 업로드 직후에는 아직 없을 수 있다.
+     * @param derived - 축소본 기록(tbl_image_derivative)이 있는지 여부 (목록 조회 쿼리에서 함께 조회)
+     * @return - 이 서비스의 버킷에 올라간 이미지가 아니거나 축소본이 아직 없으면 null
+     */
+    public String urlOf(String originalUrl, boolean derived, Variant variant) {
+        if (!derived || s3Service.keyOf(originalUrl) == null) return null;
+        return originalUrl + variant.suffix;
+    }
+
+    // 모든 축소본을 올린 경우에만 기록 (일부만 성공하면 목록은 원본 이미지를 사용)
+    void createDerivatives(String originalUrl, String key) {
+        BufferedImage original;
+        try (InputStream in = s3Service.download(key)) {
+            original = read(in, key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("원본 이미지를 읽지 못했습니다. - {}", key, e);
+            return;
+        }
+
+        if (original == null) return;
+
+        for (Variant variant : Variant.values()) {
+            try {
+                byte[] jpeg = toJpeg(resize(original, variant.maxEdge));
+                s3Service.uploadObject(new ByteArrayInputStream(jpeg), jpeg.length,
+                        "image/jpeg", key + variant.suffix);
+            } catch (IOException | RuntimeException e) {
+                log.warn("{} 축소본 생성 실패 - {}", variant, key, e);
+                return;
+            }
+        }
+
+        try {
+            imageDerivativeRepository.save(new ImageDerivative(originalUrl, null));
+        } catch (RuntimeException e) {
+            log.warn("축소본 기록 실패 - {}", key, e);
+            return;
+        }
+        log.info("image derivatives created: {}", key);
+    }
+
+    // 헤더에서 가로, 세로 크기만 먼저 읽고 max-pixels 이하일 때만 디코딩
+    // 가장 큰 축소본의 2배보다 큰 이미지는 건너뛰며 읽어(subsampling) 디코딩에 필요한 메모리를 줄인다.
+    private BufferedImage read(InputStream in, String key) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                log.warn("지원하지 않는 이미지 형식입니다. - {}", key);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지가 너무 커서 축소본을 만들지 않습니다. ({}x{}) - {}", width, height, key);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (Variant.MEDIUM.maxEdge * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 maxEdge 가 되도록 비율을 유지하여 축소 (원본보다 크게 늘리지는 않음)
+    private BufferedImage resize(BufferedImage src, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(src.getWidth(), src.getHeight()));
+        int width = Math.max(1, (int) Math.round(src.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(src.getHeight() * scale));
+
+        // JPEG 은 투명도를 지원하지 않으므로 흰 배경의 RGB 이미지로 그린다.
+        BufferedImage dest = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dest.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return dest;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
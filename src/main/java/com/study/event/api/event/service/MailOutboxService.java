@@ -0,0 +1,54 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.event.entity.MailOutbox;
+import com.study.event.api.event.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final MailOutboxWorker mailOutboxWorker;
+
+    /**
+     * 메일을 발송 대기 상태로 저장 (호출한 트랜잭션과 함께 커밋된다.)
+     * 실제 발송은 커밋 이후 MailOutboxWorker 가 처리하므로 SMTP 서버가 느려도 요청이 기다리지 않는다.
+     * @param recipient - 받는 사람 이메일
+     * @param subject - 메일 제목
+     * @param content - 메일 내용 (html)
+     */
+    public void enqueue(String recipient, String subject, String content) {
+
+        MailOutbox mail = MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .content(content)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        mailOutboxRepository.save(mail);
+
+        // 커밋이 끝나면 워커를 깨워 바로 발송 (롤백되면 발송하지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailOutboxWorker.wakeUp();
+                }
+            });
+        } else {
+            mailOutboxWorker.wakeUp();
+        }
+    }
+}
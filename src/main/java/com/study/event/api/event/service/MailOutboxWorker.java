@@ -0,0 +1,279 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.event.entity.MailOutbox;
+import com.study.event.api.event.entity.MailStatus;
+import com.study.event.api.event.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 메일 아웃박스에 쌓인 메일을 백그라운드에서 발송하는 워커
+// 1. 디스패처 스레드(1개)가 주기적으로, 또는 커밋 직후 깨어나 발송할 메일을 점유
+// 2. 정해진 개수의 발송 스레드가 메일을 묶음(batch) 단위로 한 번의 SMTP 연결로 발송
+// 3. 실패한 메일은 지수적으로 늘어나는 간격(backoff)으로 재시도하고, 최대 횟수를 넘으면 FAILED 처리
+// 4. 점유 만료 메일 되돌리기와 보관 기간이 지난 발송완료/실패 메일 삭제는 발송 주기보다 느린 별도 주기로 실행
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+    // 발송중으로 점유한 메일을 다른 워커가 가져가지 못하는 시간 (서버가 죽으면 이후 다시 발송 대기로 돌아감)
+    private static final long CLAIM_LEASE_MINUTES = 5;
+
+    // 재시도 간격의 최대값
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    // 이메일 전송 객체
+    private final JavaMailSender mailSender;
+
+    @Value("${study.mail.host}") // 전송자의 이메일 주소
+    private String mailHost;
+
+    @Value("${mail.outbox.workers:2}") // 발송 스레드 개수
+    private int workers = 2;
+
+    @Value("${mail.outbox.queue-capacity:20}") // 발송 대기 묶음의 최대 개수
+    private int queueCapacity = 20;
+
+    @Value("${mail.outbox.batch-size:10}") // 한 번의 SMTP 연결로 보낼 메일 개수
+    private int batchSize = 10;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${mail.outbox.backoff-seconds:5}") // 첫 재시도 간격
+    private long backoffSeconds = 5;
+
+    @Value("${mail.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMillis = 1000;
+
+    // 점유 만료 메일을 발송 대기로 되돌리는 주기 (점유 시간보다 충분히 짧으면 된다.)
+    @Value("${mail.outbox.claim-release-interval-seconds:60}")
+    private long claimReleaseIntervalSeconds = 60;
+
+    @Value("${mail.outbox.retention-days:7}") // 발송완료/실패 메일 보관 기간
+    private long retentionDays = 7;
+
+    @Value("${mail.outbox.purge-interval-minutes:60}")
+    private long purgeIntervalMinutes = 60;
+
+    // 한 번에 삭제할 최대 행 수 (긴 잠금을 피하기 위해 나누어 삭제)
+    @Value("${mail.outbox.purge-batch-size:500}")
+    private int purgeBatchSize = 500;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private ScheduledExecutorService dispatcher;
+    private ThreadPoolExecutor senders;
+
+    @PostConstruct
+    private void start() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "mail-outbox-dispatcher"));
+
+        AtomicInteger threadNo = new AtomicInteger();
+        senders = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "mail-outbox-sender-" + threadNo.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        dispatcher.scheduleWithFixedDelay(this::dispatchSafely,
+                pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        dispatcher.scheduleWithFixedDelay(this::releaseExpiredClaims,
+                claimReleaseIntervalSeconds, claimReleaseIntervalSeconds, TimeUnit.SECONDS);
+        dispatcher.scheduleWithFixedDelay(this::purgeFinished,
+                purgeIntervalMinutes, purgeIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    private void stop() throws InterruptedException {
+        dispatcher.shutdown();
+        senders.shutdown();
+        senders.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 새 메일이 커밋된 직후 호출 - 다음 주기를 기다리지 않고 바로 발송
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchSafely();
+            });
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.warn("메일 아웃박스 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 발송할 메일을 점유하여 발송 스레드에 넘긴다. (디스패처 스레드에서만 호출)
+    void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        while (true) {
+            // 발송 큐가 가득 찼으면 다음 주기에 다시 시도 (메일은 DB 에 그대로 남아있다.)
+            if (senders.getQueue().remainingCapacity() == 0) return;
+
+            List<MailOutbox> pending = mailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    MailStatus.PENDING, now, PageRequest.of(0, batchSize));
+
+            if (pending.isEmpty()) return;
+
+            List<MailOutbox> claimed = new ArrayList<>();
+            for (MailOutbox mail : pending) {
+                if (mailOutboxRepository.claim(mail.getId(), now.plusMinutes(CLAIM_LEASE_MINUTES)) == 1) {
+                    claimed.add(mail);
+                }
+            }
+
+            if (!claimed.isEmpty()) {
+                try {
+                    senders.execute(() -> deliver(claimed));
+                } catch (RejectedExecutionException e) {
+                    log.warn("메일 발송 큐가 가득 찼습니다. 점유 만료 후 다시 발송합니다.");
+                    return;
+                }
+            }
+
+            if (pending.size() < batchSize) return;
+        }
+    }
+
+    // 점유한 채로 서버가 죽은 메일을 다시 발송 대기로 돌려놓기
+    void releaseExpiredClaims() {
+        try {
+            int released = mailOutboxRepository.releaseExpiredClaims(LocalDateTime.now());
+            if (released > 0) {
+                log.info("{} expired mail claims released", released);
+            }
+        } catch (RuntimeException e) {
+            log.warn("점유 만료 메일 되돌리기 실패", e);
+        }
+    }
+
+    // 보관 기간이 지난 발송완료/실패 메일을 배치 크기씩 나누어 삭제 (배치마다 커밋)
+    void purgeFinished() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            int total = 0;
+            int deleted;
+            do {
+                deleted = mailOutboxRepository.deleteFinishedBefore(cutoff, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+
+            if (total > 0) {
+                log.info("{} finished outbox mails purged", total);
+            }
+        } catch (RuntimeException e) {
+            log.warn("보관 기간이 지난 메일 삭제 실패", e);
+        }
+    }
+
+    // 점유한 메일들을 한 번의 SMTP 연결로 발송하고 결과를 기록
+    void deliver(List<MailOutbox> batch) {
+        List<MailOutbox> sendable = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+
+        for (MailOutbox mail : batch) {
+            try {
+                messages.add(toMimeMessage(mail));
+                sendable.add(mail);
+            } catch (MessagingException e) {
+                markFailure(mail, e);
+            }
+        }
+        if (messages.isEmpty()) return;
+
+        Map<Object, Exception> failed = Collections.emptyMap();
+        Exception failure = null;
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failed = e.getFailedMessages();
+            failure = e;
+        } catch (MailException e) {
+            failure = e;
+        }
+
+        // 묶음 1회 발송(SMTP 연결 1회) 소요 시간
+        sample.stop(Timer.builder("mail.smtp.send")
+                .tag("outcome", failure == null ? "success" : "failure")
+                .register(Metrics.globalRegistry));
+
+        for (int i = 0; i < sendable.size(); i++) {
+            MailOutbox mail = sendable.get(i);
+
+            // 실패 목록이 없는 예외는 전체 실패로 간주
+            Exception ex = failed.isEmpty() ? failure : failed.get(messages.get(i));
+
+            if (ex == null) {
+                mailOutboxRepository.markAttempt(mail.getId(), MailStatus.SENT, LocalDateTime.now(), null);
+                log.info("{} 님에게 이메일 전송!", mail.getRecipient());
+            } else {
+                markFailure(mail, ex);
+            }
+        }
+    }
+
+    private void markFailure(MailOutbox mail, Exception e) {
+        int attempts = mail.getAttempts() + 1;
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > 500) error = error.substring(0, 500);
+
+        if (attempts >= maxAttempts) {
+            log.warn("{} 님에게 이메일 전송 실패 (재시도 {}회 초과) - {}", mail.getRecipient(), maxAttempts, error);
+            mailOutboxRepository.markAttempt(mail.getId(), MailStatus.FAILED, LocalDateTime.now(), error);
+            return;
+        }
+
+        // 5초, 10초, 20초 ... 최대 1시간
+        long delay = Math.min(backoffSeconds << (attempts - 1), MAX_BACKOFF_SECONDS);
+        log.warn("{} 님에게 이메일 전송 실패 ({}회) - {}초 후 재시도", mail.getRecipient(), attempts, delay);
+        mailOutboxRepository.markAttempt(mail.getId(), MailStatus.PENDING,
+                LocalDateTime.now().plusSeconds(delay), error);
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        // 이메일을 전송할 객체 생성
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+
+        messageHelper.setTo(mail.getRecipient());
+        messageHelper.setSubject(mail.getSubject());
+        messageHelper.setText(mail.getContent(), true);
+        messageHelper.setFrom(mailHost);
+
+        return mimeMessage;
+    }
+}
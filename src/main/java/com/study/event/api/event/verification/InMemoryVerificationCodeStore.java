@@ -0,0 +1,175 @@
+package com.study.event.api.event.verification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+// 메모리에 인증 코드를 보관하는 저장소 (verification.store=memory)
+// 코드 확인에 DB 를 사용하지 않는다. 서버가 한 대이고 재시작시 코드가 사라져도 되는 경우에만 사용한다.
+//
+// 만료 처리는 타이밍 휠 방식 - 만료 시각에 해당하는 칸(slot)에 코드를 넣어두고
+// 1초마다 한 칸씩 이동하며 그 칸의 만료된 코드만 지우므로 저장, 만료 모두 코드 개수와 관계없이 O(1) 이다.
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory")
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // 휠 한 바퀴 = 512초, 그보다 긴 유효시간은 여러 바퀴 뒤에 지워진다.
+    private static final int WHEEL_SIZE = 512;
+
+    private final Map<String, Entry> codes = new ConcurrentHashMap<>();
+
+    private final Queue<Entry>[] wheel;
+
+    private final LongSupplier nanoClock;
+
+    private final long startNanos;
+
+    // 마지막으로 정리한 칸 번호 (서버 시작 후 경과한 초)
+    private long sweptTick = 0;
+
+    private ScheduledExecutorService sweeper;
+
+    public InMemoryVerificationCodeStore() {
+        this(System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    InMemoryVerificationCodeStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    @PostConstruct
+    private void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "verification-code-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        sweeper.scheduleAtFixedRate(this::sweep, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        long expiresAt = nanoClock.getAsLong() + ttl.toNanos();
+        // 만료 시각이 속한 칸의 다음 칸에서 지운다. (만료 전에 지워지지 않도록 올림)
+        long tick = (expiresAt - startNanos) / TICK_NANOS + 1;
+
+        Entry entry = new Entry(email, code, expiresAt, tick);
+        codes.put(email, entry);
+        wheel[(int) (tick % WHEEL_SIZE)].add(entry);
+        // 교체된 이전 코드는 휠에 남아있다가 자기 칸에서 무시된다.
+    }
+
+    @Override
+    public boolean matchAndRemove(String email, String code) {
+        Entry entry = codes.get(email);
+        if (entry == null || entry.isExpired(nanoClock.getAsLong())) return false;
+
+        // 응답 시간 차이로 코드를 추측할 수 없도록 고정 시간 비교
+        boolean match = MessageDigest.isEqual(
+                entry.code.getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8));
+
+        // 동시에 같은 코드로 요청해도 한 번만 성공
+        if (!match || !entry.used.compareAndSet(false, true)) return false;
+
+        // 트랜잭션이 커밋된 뒤에 제거하고, 롤백되면 다시 사용할 수 있게 되돌린다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        codes.remove(email, entry);
+                    } else {
+                        entry.used.set(false);
+                    }
+                }
+            });
+        } else {
+            codes.remove(email, entry);
+        }
+        return true;
+    }
+
+    @Override
+    public void remove(String email) {
+        codes.remove(email);
+    }
+
+    // 마지막 정리 이후 지나간 칸들의 만료된 코드 제거
+    synchronized void sweep() {
+        long currentTick = (nanoClock.getAsLong() - startNanos) / TICK_NANOS;
+        int removed = 0;
+
+        while (sweptTick < currentTick) {
+            sweptTick++;
+            Iterator<Entry> it = wheel[(int) (sweptTick % WHEEL_SIZE)].iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.tick > sweptTick) continue; // 다음 바퀴에 만료
+                it.remove();
+                if (codes.remove(entry.email, entry)) removed++;
+            }
+        }
+
+        if (removed > 0) {
+            log.debug("{} expired verification codes removed", removed);
+        }
+    }
+
+    int size() {
+        return codes.size();
+    }
+
+    private static class Entry {
+        private final String email;
+        private final String code;
+        private final long expiresAt;
+        private final long tick;
+
+        // 확인에 성공하여 사용중인 코드 (커밋되면 제거, 롤백되면 false 로 되돌림)
+        private final AtomicBoolean used = new AtomicBoolean();
+
+        Entry(String email, String code, long expiresAt, long tick) {
+            this.email = email;
+            this.code = code;
+            this.expiresAt = expiresAt;
+            this.tick = tick;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.study.event.api.event.verification;
+
+import com.study.event.api.event.entity.EmailVerification;
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.repository.EmailVerificationRepository;
+import com.study.event.api.event.repository.EventUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// tbl_email_verification 테이블에 인증 코드를 보관하는 저장소 (기본값, verification.store=jdbc)
+// 서버가 여러 대이거나 재시작해도 코드를 유지해야 할 때 사용하며, 만료된 코드는 주기적으로 expiry_date 인덱스를 이용해 나누어 삭제한다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "verification.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+
+    private final EventUserRepository eventUserRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 삭제할 최대 행 수 (긴 잠금을 피하기 위해 나누어 삭제)
+    @Value("${verification.purge.batch-size:500}")
+    private int purgeBatchSize = 500;
+
+    @Value("${verification.purge.interval-seconds:60}")
+    private long purgeIntervalSeconds = 60;
+
+    private ScheduledExecutorService purger;
+
+    @PostConstruct
+    private void start() {
+        purger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "verification-code-purger");
+            t.setDaemon(true);
+            return t;
+        });
+        purger.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalSeconds, purgeIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        purger.shutdownNow();
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        EventUser eventUser = eventUserRepository.findByEmail(email).orElseThrow();
+        LocalDateTime expiryDate = LocalDateTime.now().plus(ttl);
+
+        // 기존 코드가 있으면 삭제 후 추가하지 않고 새 코드로 수정
+        EmailVerification verification = emailVerificationRepository.findByEventUser(eventUser)
+                .orElse(null);
+
+        if (verification != null) {
+            verification.renew(code, expiryDate);
+        } else {
+            verification = EmailVerification.builder()
+                    .verificationCode(code)
+                    .expiryDate(expiryDate)
+                    .eventUser(eventUser)
+                    .build();
+        }
+        emailVerificationRepository.save(verification);
+    }
+
+    @Override
+    public boolean matchAndRemove(String email, String code) {
+        EmailVerification verification = emailVerificationRepository.findByEventUserEmail(email).orElse(null);
+
+        if (verification == null
+                || !verification.getExpiryDate().isAfter(LocalDateTime.now())
+                || !code.equals(verification.getVerificationCode())) {
+            return false;
+        }
+
+        // 호출한 트랜잭션 안에서 삭제하므로 커밋될 때 함께 사용 처리된다. (롤백되면 코드가 남는다.)
+        emailVerificationRepository.delete(verification);
+        return true;
+    }
+
+    @Override
+    public void remove(String email) {
+        emailVerificationRepository.findByEventUserEmail(email)
+                .ifPresent(emailVerificationRepository::delete);
+    }
+
+    // 만료된 코드를 배치 크기씩 나누어 삭제 (배치마다 커밋)
+    void purgeExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            int deleted;
+            do {
+                Integer count = transactionTemplate.execute(
+                        status -> emailVerificationRepository.deleteExpired(now, purgeBatchSize));
+                deleted = count == null ? 0 : count;
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+
+            if (total > 0) {
+                log.info("{} expired verification codes purged", total);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 인증 코드 삭제 실패", e);
+        }
+    }
+}
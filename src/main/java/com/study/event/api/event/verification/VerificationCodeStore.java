@@ -0,0 +1,23 @@
+package com.study.event.api.event.verification;
+
+import java.time.Duration;
+
+// 이메일 인증 코드 저장소
+// verification.store 설정으로 구현을 선택한다. (jdbc: 기본값, tbl_email_verification 사용 / memory: 서버 1대용)
+public interface VerificationCodeStore {
+
+    /**
+     * 인증 코드 저장 (이미 발급된 코드가 있으면 새 코드로 교체)
+     * @param ttl - 유효 시간, 지나면 자동으로 제거된다.
+     */
+    void save(String email, String code, Duration ttl);
+
+    /**
+     * 만료되지 않은 코드와 일치하면 코드를 제거하고 true
+     * 일치하지 않으면 코드를 그대로 둔다.
+     * 트랜잭션 안에서 호출하면 커밋될 때 제거되고, 롤백되면 코드를 다시 사용할 수 있다.
+     */
+    boolean matchAndRemove(String email, String code);
+
+    void remove(String email);
+}
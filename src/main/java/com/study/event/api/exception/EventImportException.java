@@ -0,0 +1,18 @@
+package com.study.event.api.exception;
+
+import lombok.Getter;
+
+// 대량 등록 중 실패 - 앞 배치는 이미 커밋되었으므로 몇 건이 저장되었는지 함께 전달한다.
+// 저장된 이벤트는 요청 배열의 0 ~ imported-1 번째이고, imported 번째부터 다시 보내면 된다.
+@Getter
+public class EventImportException extends RuntimeException {
+
+    private final int imported;    // 커밋된 이벤트 개수
+    private final int failedIndex; // 실패한 배치의 첫 이벤트, 또는 읽지 못한 이벤트의 순번 (0부터)
+
+    public EventImportException(int imported, int failedIndex, Exception cause) {
+        super(cause.getMessage(), cause);
+        this.imported = imported;
+        this.failedIndex = failedIndex;
+    }
+}
@@ -0,0 +1,9 @@
+package com.study.event.api.exception;
+
+// 비밀번호 암호화 작업이 밀려 있어 요청을 처리하지 않고 거절할 때 발생 (503 응답)
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
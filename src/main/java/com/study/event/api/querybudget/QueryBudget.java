@@ -0,0 +1,15 @@
+package com.study.event.api.querybudget;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 메서드 한 번 호출에서 실행할 수 있는 최대 SQL 개수
+// 지연 로딩(N+1) 등으로 쿼리가 늘어나면 경고 로그를 남기고, query-budget.fail-on-exceed=true 이면 요청을 실패시킨다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,9 @@
+package com.study.event.api.querybudget;
+
+// 요청의 SQL 개수가 @QueryBudget 을 넘었을 때 발생 (query-budget.fail-on-exceed=true)
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int budget, int count, String sql) {
+        super("SQL 허용 개수(" + budget + ")를 초과했습니다. (" + count + "번째: " + sql + ")");
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.event.api.querybudget;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+// 요청마다 SQL 개수를 세서 응답 헤더(X-Query-Count, Server-Timing)로 알려주고
+// @QueryBudget 을 넘거나 같은 SQL 이 반복 실행되면(N+1 의심) 경고 로그를 남기는 필터
+@Component
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    static final String HANDLER_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".handler";
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    // 같은 SQL 이 이 횟수 이상 실행되면 N+1 로 의심
+    @Value("${query-budget.repeat-threshold:3}")
+    private int repeatThreshold = 3;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+
+            // 헤더는 응답 본문이 전송되기(commit) 직전에 그때까지의 값으로 추가
+            OnCommittedResponseWrapper wrapper = new OnCommittedResponseWrapper(response) {
+                @Override
+                protected void onResponseCommitted() {
+                    response.setHeader(QUERY_COUNT_HEADER, String.valueOf(scope.getCount()));
+                    response.setHeader("Server-Timing", String.format(Locale.ROOT,
+                            "db;dur=%.1f;desc=\"%d queries\"", scope.getElapsedMillis(), scope.getCount()));
+                }
+            };
+
+            try {
+                filterChain.doFilter(request, wrapper);
+            } finally {
+                report(request, scope);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Scope scope) {
+        Object handler = request.getAttribute(HANDLER_ATTRIBUTE);
+        String target = handler != null ? handler.toString() : request.getMethod() + " " + request.getRequestURI();
+
+        if (scope.isOverBudget()) {
+            log.warn("query budget exceeded: {} - {} queries (budget {})", target, scope.getCount(), scope.getBudget());
+        }
+
+        Map<String, Integer> repeated = scope.getRepeated(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            repeated.forEach((sql, n) -> log.warn("possible N+1: {} - {} times: {}", target, n, sql));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.event.api.querybudget;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+// 호출될 컨트롤러 메서드의 @QueryBudget 값을 현재 요청의 측정 범위에 설정
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.Scope scope = QueryCounter.current();
+        if (scope != null && handler instanceof HandlerMethod) {
+            QueryBudget budget = ((HandlerMethod) handler).getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                scope.setBudget(budget.value());
+                request.setAttribute(QueryBudgetFilter.HANDLER_ATTRIBUTE, ((HandlerMethod) handler).getShortLogMessage());
+            }
+        }
+        return true;
+    }
+}
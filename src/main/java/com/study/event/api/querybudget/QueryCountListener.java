@@ -0,0 +1,30 @@
+package com.study.event.api.querybudget;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// p6spy 가 SQL 을 실행할 때마다 호출하는 리스너 (p6spy-spring-boot-starter 가 빈을 자동으로 등록)
+// 측정 범위(QueryCounter.Scope)가 있는 스레드에서만 기록한다.
+@Component
+public class QueryCountListener extends SimpleJdbcEventListener {
+
+    @Value("${query-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        QueryCounter.Scope scope = QueryCounter.current();
+        if (scope == null) return;
+
+        scope.record(statementInformation.getSql(), timeElapsedNanos);
+
+        // 개발, 테스트 환경에서 N+1 을 바로 발견할 수 있도록 초과 즉시 실패 (트랜잭션 롤백)
+        if (failOnExceed && scope.isOverBudget()) {
+            throw new QueryBudgetExceededException(scope.getBudget(), scope.getCount(), statementInformation.getSql());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.event.api.querybudget;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 현재 스레드(요청)에서 실행된 SQL 개수와 시간을 세는 카운터
+// QueryCountListener(p6spy)가 SQL 실행마다 기록하고, 범위는 요청 필터나 테스트에서 start/close 로 지정한다.
+//
+// 테스트 예시)
+//   try (QueryCounter.Scope scope = QueryCounter.start()) {
+//       eventService.getEvents(1, "date", userId);
+//       assertTrue(scope.getCount() <= 2);
+//   }
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    // 새 측정 범위 시작 (이미 측정중이면 바깥 범위는 잠시 멈춘다.)
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // 측정중인 범위, 없으면 null
+    static Scope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 작업을 실행하면서 실행된 SQL 개수가 max 이하인지 검사 (테스트용)
+     * @throws AssertionError - max 를 넘은 경우
+     */
+    public static <T> T assertMaxQueries(int max, Supplier<T> work) {
+        try (Scope scope = start()) {
+            T result = work.get();
+            if (scope.getCount() > max) {
+                throw new AssertionError("SQL " + max + "개를 예상했지만 " + scope.getCount() + "개가 실행되었습니다. "
+                        + scope.getRepeated());
+            }
+            return result;
+        }
+    }
+
+    public static void assertMaxQueries(int max, Runnable work) {
+        assertMaxQueries(max, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static class Scope implements AutoCloseable {
+        private final Scope parent;
+
+        private int count;
+        private long elapsedNanos;
+
+        // 같은 SQL(파라미터 제외) 실행 횟수 - 반복 실행되는 SQL 은 N+1 의심
+        private final Map<String, Integer> statements = new HashMap<>();
+
+        // 허용 개수 (0 이면 제한 없음)
+        private int budget;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        void record(String sql, long nanos) {
+            count++;
+            elapsedNanos += nanos;
+            if (sql != null) statements.merge(sql, 1, Integer::sum);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+
+        void setBudget(int budget) {
+            this.budget = budget;
+        }
+
+        boolean isOverBudget() {
+            return budget > 0 && count > budget;
+        }
+
+        // threshold 번 이상 반복된 SQL
+        public Map<String, Integer> getRepeated(int threshold) {
+            Map<String, Integer> repeated = new HashMap<>();
+            statements.forEach((sql, n) -> {
+                if (n >= threshold) repeated.put(sql, n);
+            });
+            return repeated;
+        }
+
+        Map<String, Integer> getRepeated() {
+            return getRepeated(2);
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) CURRENT.set(parent);
+                else CURRENT.remove();
+            }
+        }
+    }
+}
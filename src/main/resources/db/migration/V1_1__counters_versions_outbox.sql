@@ -0,0 +1,27 @@
+-- Flyway 도입 전에 엔터티에 추가된 컬럼과 테이블
+-- 새 DB(V1 적용)와 baseline 으로 V1 을 건너뛴 기존 DB 모두 같은 스키마가 되도록 IF NOT EXISTS 로 추가한다.
+-- (ddl-auto=update 로 일부 컬럼이 이미 생긴 DB 도 있을 수 있음)
+
+-- 회원별 이벤트 개수, 목록 버전 (EventUserRepositoryCustomImpl - 기존 데이터의 개수는 V4 에서 맞춘다.)
+ALTER TABLE tbl_event_user
+    ADD COLUMN IF NOT EXISTS ev_count        INT    NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS ev_list_version BIGINT NOT NULL DEFAULT 0;
+
+-- 이벤트 수정시각(Last-Modified), 버전(ETag)
+ALTER TABLE tbl_event
+    ADD COLUMN IF NOT EXISTS ev_updated_at DATETIME(6),
+    ADD COLUMN IF NOT EXISTS ev_version    BIGINT NOT NULL DEFAULT 0;
+
+-- 발송할 메일 아웃박스 (MailOutboxWorker)
+CREATE TABLE IF NOT EXISTS tbl_mail_outbox (
+    mail_id         BIGINT        NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    content         VARCHAR(2000) NOT NULL,
+    mail_status     VARCHAR(20)   NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    PRIMARY KEY (mail_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,38 @@
+-- 최초 스키마 (Flyway 도입 전 Hibernate ddl-auto 가 만들던 테이블과 같음)
+-- 이미 Hibernate 가 만든 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다.
+-- 따라서 이 파일에는 이후 추가된 컬럼, 테이블을 넣지 않는다. (V1.1 부터 추가)
+
+CREATE TABLE tbl_event_user (
+    ev_user_id     VARCHAR(255) NOT NULL,
+    ev_user_email  VARCHAR(255) NOT NULL,
+    password       VARCHAR(500),
+    role           VARCHAR(255) NOT NULL,
+    create_at      DATETIME(6),
+    email_verified BIT          NOT NULL,
+    PRIMARY KEY (ev_user_id),
+    CONSTRAINT uk_event_user_email UNIQUE (ev_user_email)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_event (
+    ev_id         BIGINT      NOT NULL AUTO_INCREMENT,
+    ev_title      VARCHAR(50) NOT NULL,
+    ev_desc       VARCHAR(255),
+    ev_image_path VARCHAR(255),
+    ev_start_date DATE,
+    created_at    DATETIME(6),
+    ev_user_id    VARCHAR(255),
+    PRIMARY KEY (ev_id),
+    -- 외래키 인덱스(ev_user_id, PK)는 회원별 PK 순 조회(내보내기)에 사용
+    CONSTRAINT fk_event_user FOREIGN KEY (ev_user_id) REFERENCES tbl_event_user (ev_user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_email_verification (
+    verification_id   VARCHAR(255) NOT NULL,
+    verification_code VARCHAR(255) NOT NULL,
+    expiry_date       DATETIME(6)  NOT NULL,
+    event_user_id     VARCHAR(255),
+    PRIMARY KEY (verification_id),
+    -- 회원당 인증 코드 1개 (코드 재발급은 같은 행을 갱신)
+    CONSTRAINT uk_email_verification_user UNIQUE (event_user_id),
+    CONSTRAINT fk_email_verification_user FOREIGN KEY (event_user_id) REFERENCES tbl_event_user (ev_user_id)
+) ENGINE = InnoDB;
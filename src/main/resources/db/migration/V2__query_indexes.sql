@@ -0,0 +1,21 @@
+-- 조회 쿼리 형태에 맞춘 인덱스
+-- 기존 DB 에 같은 인덱스가 이미 있어도 실패하지 않도록 IF NOT EXISTS 사용 (테이블은 V1, V1.1 에서 생성)
+
+-- 회원별 날짜순 목록 (findEvents, findEventsByCursor - sort=date)
+--   where ev_user_id = ? order by ev_start_date desc, ev_id desc
+-- 정렬 순서대로 읽고, 목록 컬럼(제목, 이미지)까지 포함하여 테이블을 읽지 않는다. (covering)
+CREATE INDEX IF NOT EXISTS ix_event_user_date
+    ON tbl_event (ev_user_id, ev_start_date, ev_id, ev_title, ev_image_path);
+
+-- 회원별 제목순 목록 (sort=title)
+--   where ev_user_id = ? order by ev_title, ev_id
+CREATE INDEX IF NOT EXISTS ix_event_user_title
+    ON tbl_event (ev_user_id, ev_title, ev_id, ev_start_date, ev_image_path);
+
+-- 만료된 인증 코드 일괄 삭제 (EmailVerificationRepository.deleteExpired)
+CREATE INDEX IF NOT EXISTS ix_email_verification_expiry
+    ON tbl_email_verification (expiry_date);
+
+-- 발송할 메일 조회 (MailOutboxRepository - mail_status = ? and next_attempt_at <= ?)
+CREATE INDEX IF NOT EXISTS ix_mail_outbox_status
+    ON tbl_mail_outbox (mail_status, next_attempt_at);
@@ -0,0 +1,10 @@
+-- 이벤트 PK 시퀀스 (Event 의 allocationSize 50 과 INCREMENT BY 를 맞춰야 함)
+-- 최초 스키마(V1)는 AUTO_INCREMENT 를 사용했으므로 새 DB, 기존 DB 모두 여기서 시퀀스를 만든다.
+-- 기존 데이터의 PK 와 겹치지 않도록 현재 최대값 다음부터 시작하고,
+-- 이미 있는 시퀀스가 최대값보다 뒤처져 있으면 앞으로 당긴다. (SETVAL 은 값을 줄이지 않음)
+SELECT COALESCE(MAX(ev_id), 0) + 1 INTO @next_ev_id FROM tbl_event;
+
+EXECUTE IMMEDIATE CONCAT('CREATE SEQUENCE IF NOT EXISTS tbl_event_seq START WITH ', @next_ev_id, ' INCREMENT BY 50');
+
+-- 세번째 인자 0: 다음 NEXTVAL 이 @next_ev_id 를 그대로 반환
+EXECUTE IMMEDIATE CONCAT('SELECT SETVAL(tbl_event_seq, ', @next_ev_id, ', 0)');
@@ -0,0 +1,5 @@
+-- 회원별 이벤트 개수(ev_count)를 실제 이벤트 수에 맞춤
+-- V1.1 에서 ev_count 컬럼을 추가한 기존 DB 는 컬럼 기본값 0 으로 남아 있어
+-- 목록 전체 개수와 일반회원 등록 제한(4개)이 틀어진다. (새 DB 는 바뀌는 행이 없음)
+UPDATE tbl_event_user u
+SET u.ev_count = (SELECT COUNT(*) FROM tbl_event e WHERE e.ev_user_id = u.ev_user_id);
@@ -0,0 +1,11 @@
+-- 사용한 refresh 토큰 ID(jti) - 서버가 여러 대이거나 재시작해도 같은 refresh 토큰을 다시 사용할 수 없도록 기록
+-- (UsedRefreshTokenStore, 행은 토큰이 만료되면 필요 없으므로 주기적으로 삭제)
+CREATE TABLE IF NOT EXISTS tbl_used_refresh_token (
+    token_id   VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (token_id)
+) ENGINE = InnoDB;
+
+-- 만료된 토큰 ID 일괄 삭제 (UsedRefreshTokenRepository.deleteExpired)
+CREATE INDEX IF NOT EXISTS ix_used_refresh_token_expiry
+    ON tbl_used_refresh_token (expires_at);
@@ -0,0 +1,8 @@
+-- 축소본이 만들어진 원본 이미지 (ImageDerivativeService)
+-- 목록 조회에서 ev_image_path 로 조인하여 썸네일 URL 을 결정하므로, 요청마다 S3 에 존재 여부를 묻지 않는다.
+-- 이 테이블이 생기기 전에 만든 축소본은 기록이 없으므로 원본 이미지를 사용한다.
+CREATE TABLE IF NOT EXISTS tbl_image_derivative (
+    image_path VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (image_path)
+) ENGINE = InnoDB;
@@ -0,0 +1,12 @@
+-- 회원 단위 access 토큰 무효화 기준시각 - 이 시각 이전에 발급된 토큰은 무효 (UserTokenCutoffStore)
+-- 각 서버는 주기적으로 최근 기록을 읽어 메모리 목록(TokenRevocationList)에 반영하므로,
+-- 서버가 여러 대이거나 재시작해도 무효화가 유지된다. (행은 access 토큰 유효시간이 지나면 필요 없으므로 주기적으로 삭제)
+CREATE TABLE IF NOT EXISTS tbl_user_token_cutoff (
+    ev_user_id VARCHAR(255) NOT NULL,
+    cutoff     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (ev_user_id)
+) ENGINE = InnoDB;
+
+-- 최근 기록 조회, 지난 기록 일괄 삭제 (UserTokenCutoffRepository)
+CREATE INDEX IF NOT EXISTS ix_user_token_cutoff_cutoff
+    ON tbl_user_token_cutoff (cutoff);
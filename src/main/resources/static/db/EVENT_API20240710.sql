@@ -1,4 +1,5 @@
 -- Event_Api20240710
+-- 조회/점검용 스크립트 - 스키마 변경은 db/migration 의 Flyway 마이그레이션으로 추가한다.
 
 -- Event 테이블 전체조회
 select * from tbl_event;
@@ -9,3 +10,7 @@ select * from tbl_event_user;
 -- Event_EMAIL_VERIFICATION 테이블 전체조회
 select * from tbl_email_verification;
 
+
+
+-- 회원별 이벤트 개수(ev_count)는 db/migration/V4__backfill_event_count.sql 에서 기존 데이터에 맞춘다.
+-- 이벤트 PK 시퀀스는 db/migration/V3__event_sequence.sql 에서 기존 최대 PK 다음 값부터 만든다.
@@ -1,9 +1,11 @@
 package com.study.event.api;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
+@Tag("integration")
 class EventApi20240710ApplicationTests {
 
 	@Test
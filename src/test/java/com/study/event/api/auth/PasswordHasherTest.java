@@ -0,0 +1,74 @@
+package com.study.event.api.auth;
+
+import com.study.event.api.exception.PasswordHashingRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordHasherTest {
+
+    @Test
+    @DisplayName("전용 스레드풀에서 암호화하고 검증한다")
+    void encodeAndMatch() {
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(4), 2, 8, 5000);
+
+        String encoded = hasher.encode("abc1234!");
+
+        assertTrue(hasher.matches("abc1234!", encoded));
+        assertFalse(hasher.matches("wrong", encoded));
+        assertEquals(3L, hasher.stats().get("completed"));
+    }
+
+    @Test
+    @DisplayName("work factor 를 올리면 이전 설정으로 암호화된 비밀번호는 다시 암호화 대상이다")
+    void needsRehashWhenStrengthIncreased() {
+        String weak = new BCryptPasswordEncoder(4).encode("abc1234!");
+
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 1, 5000);
+
+        assertTrue(hasher.needsRehash(weak));
+        assertFalse(hasher.needsRehash(hasher.encode("abc1234!")));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void rejectWhenQueueFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(any())).thenAnswer(inv -> {
+            release.await();
+            return "hash";
+        });
+
+        // 스레드 1개, 대기열 1개
+        PasswordHasher hasher = new PasswordHasher(slow, 1, 1, 5000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = callers.submit(() -> hasher.encode("a"));
+            Future<String> queued = callers.submit(() -> hasher.encode("b"));
+
+            // 두 요청이 실행중, 대기중 상태가 될 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (hasher.queueDepth() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThrows(PasswordHashingRejectedException.class, () -> hasher.encode("c"));
+
+            release.countDown();
+            assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(1L, hasher.stats().get("rejected"));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+}
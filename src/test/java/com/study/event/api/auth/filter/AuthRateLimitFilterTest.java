@@ -0,0 +1,59 @@
+package com.study.event.api.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimitFilterTest {
+
+    // IP 제한은 넉넉하게, 이메일 제한은 1회
+    private final AuthRateLimitFilter filter =
+            new AuthRateLimitFilter(new ObjectMapper(), 100, 100, 1, 1, 60, 1, 60);
+
+    private int status(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private MockHttpServletRequest checkEmail(String email, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/check-email");
+        request.setServletPath("/auth/check-email");
+        request.setParameter("email", email);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    @Test
+    @DisplayName("대소문자, 앞뒤 공백만 다른 이메일은 같은 이메일로 제한한다")
+    void normalizedEmailKey() throws Exception {
+        assertEquals(200, status(checkEmail("user@test.com", "10.0.0.1")));
+        assertEquals(429, status(checkEmail("  USER@Test.com ", "10.0.0.2")));
+        assertEquals(200, status(checkEmail("other@test.com", "10.0.0.3")));
+    }
+
+    @Test
+    @DisplayName("본문의 이메일도 정규화하고, 컨트롤러는 본문을 다시 읽을 수 있다")
+    void normalizedBodyEmail() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/auth/sign-in");
+        first.setServletPath("/auth/sign-in");
+        first.setContent("{\"email\": \"User@Test.com\"}".getBytes(StandardCharsets.UTF_8));
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(first, new MockHttpServletResponse(), chain);
+        assertEquals("{\"email\": \"User@Test.com\"}",
+                new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", "/auth/sign-in");
+        second.setServletPath("/auth/sign-in");
+        second.setContent("{\"email\": \" user@test.com\"}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(429, status(second));
+    }
+}
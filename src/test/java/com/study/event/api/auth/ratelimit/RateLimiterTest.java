@@ -0,0 +1,73 @@
+package com.study.event.api.auth.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(-TimeUnit.DAYS.toNanos(1)); // nanoTime 은 음수일 수도 있다.
+
+    @Test
+    @DisplayName("capacity 개까지 연속 허용 후 refill 간격마다 1개씩 다시 허용한다")
+    void burstThenRefill() {
+        RateLimiter limiter = new RateLimiter(3, Duration.ofSeconds(10), 100, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("a@test.com"));
+        }
+        long wait = limiter.tryAcquire("a@test.com");
+        assertEquals(TimeUnit.SECONDS.toNanos(10), wait);
+
+        // 다른 키는 영향 없음
+        assertEquals(0, limiter.tryAcquire("b@test.com"));
+
+        now.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("a@test.com"));
+        assertTrue(limiter.tryAcquire("a@test.com") > 0);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 capacity 개보다 많이 쌓이지 않는다")
+    void doesNotAccumulateBeyondCapacity() {
+        RateLimiter limiter = new RateLimiter(2, Duration.ofSeconds(1), 100, now::get);
+        limiter.tryAcquire("ip");
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertEquals(0, limiter.tryAcquire("ip"));
+        assertEquals(0, limiter.tryAcquire("ip"));
+        assertTrue(limiter.tryAcquire("ip") > 0);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 capacity 개만 허용한다")
+    void concurrentAcquire() throws Exception {
+        RateLimiter limiter = new RateLimiter(50, Duration.ofHours(1), 100, now::get);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < 500; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (limiter.tryAcquire("same-key") == 0) allowed.incrementAndGet();
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(50, allowed.get());
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.event.api.auth.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private static final long ACCESS_TOKEN_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    private final AtomicLong now = new AtomicLong(1_720_000_000_000L);
+    private final TokenRevocationList revocations = new TokenRevocationList(1000, ACCESS_TOKEN_MILLIS, now::get);
+
+    @Test
+    @DisplayName("무효화한 토큰만 걸러내고, refresh 토큰은 한 번만 무효화할 수 있다")
+    void revokeToken() {
+        Instant expiresAt = Instant.ofEpochMilli(now.get()).plusSeconds(60);
+
+        assertTrue(revocations.revokeToken("token-1", expiresAt));
+        assertFalse(revocations.revokeToken("token-1", expiresAt));
+
+        assertTrue(revocations.isRevoked("token-1"));
+        assertFalse(revocations.isRevoked("token-2"));
+        assertFalse(revocations.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("회원 단위 무효화는 기준 시각(밀리초) 이전에 발급된 토큰에만 적용된다")
+    void revokeUserTokens() {
+        long cutoff = now.get() + 500; // 같은 초 안에서도 구분
+        revocations.revokeUserTokensIssuedBefore("user-1", Instant.ofEpochMilli(cutoff));
+
+        assertTrue(revocations.isRevoked("user-1", "old", cutoff - 1));
+        assertFalse(revocations.isRevoked("user-1", "new", cutoff));
+        assertFalse(revocations.isRevoked("user-2", "other", cutoff - 1));
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되면 목록에서 지워진다")
+    void purgeExpired() {
+        revocations.revokeToken("token-1", Instant.ofEpochMilli(now.get()).plusSeconds(60));
+        revocations.revokeUserTokensIssuedBefore("user-1", Instant.ofEpochMilli(now.get()));
+        assertEquals(2, revocations.size());
+
+        now.addAndGet(ACCESS_TOKEN_MILLIS + 1000);
+        revocations.purgeExpired();
+
+        assertEquals(0, revocations.size());
+        assertFalse(revocations.isRevoked("token-1"));
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 넣은 키를 놓치지 않고, 오탐률은 설정값 근처다")
+    void bloomFilter() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("key-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) falsePositives++;
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.event.api.auth.revocation;
+
+import com.study.event.api.event.repository.UsedRefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UsedRefreshTokenStoreTest {
+
+    private final UsedRefreshTokenRepository repository = mock(UsedRefreshTokenRepository.class);
+
+    private final TokenRevocationList revocations =
+            new TokenRevocationList(1000, TimeUnit.MINUTES.toMillis(15), System::currentTimeMillis);
+
+    private final UsedRefreshTokenStore store = new UsedRefreshTokenStore(repository, revocations);
+
+    private final Instant expiresAt = Instant.now().plusSeconds(60);
+
+    @Test
+    @DisplayName("처음 사용한 토큰은 DB 에 기록하고, 같은 서버에서 다시 사용하면 DB 를 확인하지 않고 거절한다")
+    void secondUseRejectedFromCache() {
+        when(repository.markUsed(eq("token-1"), any())).thenReturn(true);
+
+        assertTrue(store.markUsed("token-1", expiresAt));
+        assertFalse(store.markUsed("token-1", expiresAt));
+
+        verify(repository, times(1)).markUsed(eq("token-1"), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 이미 사용한 토큰은 DB 기록으로 거절하고, 이후에는 메모리에서 거절한다")
+    void usedOnAnotherServer() {
+        when(repository.markUsed(eq("token-2"), any())).thenReturn(false);
+
+        assertFalse(store.markUsed("token-2", expiresAt));
+        assertTrue(revocations.isRevoked("token-2"));
+    }
+}
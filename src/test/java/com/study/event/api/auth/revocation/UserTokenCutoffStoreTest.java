@@ -0,0 +1,78 @@
+package com.study.event.api.auth.revocation;
+
+import com.study.event.api.event.entity.UserTokenCutoff;
+import com.study.event.api.event.repository.UserTokenCutoffRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserTokenCutoffStoreTest {
+
+    private final UserTokenCutoffRepository repository = mock(UserTokenCutoffRepository.class);
+
+    private final TokenRevocationList revocations =
+            new TokenRevocationList(1000, TimeUnit.MINUTES.toMillis(15), System::currentTimeMillis);
+
+    private final UserTokenCutoffStore store = new UserTokenCutoffStore(repository, revocations, 15);
+
+    private final Instant cutoff = Instant.now();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋된 뒤에만 메모리 목록에 반영한다")
+    void revokedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.revokeUserTokensIssuedBefore("user-1", cutoff);
+
+        verify(repository).revokeIssuedBefore(eq("user-1"), any());
+        assertFalse(revocations.isRevoked("user-1", "old", cutoff.toEpochMilli() - 1));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(revocations.isRevoked("user-1", "old", cutoff.toEpochMilli() - 1));
+        assertFalse(revocations.isRevoked("user-1", "new", cutoff.toEpochMilli()));
+    }
+
+    @Test
+    @DisplayName("롤백되면 무효화하지 않는다")
+    void notRevokedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        store.revokeUserTokensIssuedBefore("user-1", cutoff);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(revocations.isRevoked("user-1", "old", cutoff.toEpochMilli() - 1));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 DB 에 기록한 기준시각을 읽어와 반영한다")
+    void syncFromDatabase() {
+        LocalDateTime recorded = LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault());
+        when(repository.findByCutoffAfter(any())).thenReturn(List.of(new UserTokenCutoff("user-2", recorded)));
+
+        store.sync();
+
+        assertTrue(revocations.isRevoked("user-2", "old", cutoff.toEpochMilli() - 1));
+        assertFalse(revocations.isRevoked("user-2", "new", cutoff.toEpochMilli()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.study.event.api.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.study.event.api.datasource.ReplicaRouter.PRIMARY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaRouterTest {
+
+    private final AtomicReference<String> client = new AtomicReference<>("user:1");
+
+    private ResultSet slaveStatus;
+    private ReplicaRouter router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        slaveStatus = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(slaveStatus);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(connection);
+
+        router = new ReplicaRouter(mock(DataSource.class), Map.of("replica-1", replica),
+                3, Duration.ofSeconds(10), Duration.ofSeconds(5), client::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션만 복제 DB 로 보낸다")
+    void routesReadOnlyToReplica() throws SQLException {
+        when(slaveStatus.next()).thenReturn(false); // 복제 설정이 없는 로컬 인스턴스
+        router.checkReplicas();
+
+        assertEquals(PRIMARY, router.route());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals("replica-1", router.route());
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 복제가 멈추면 primary 에서 읽는다")
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(PRIMARY, router.route()); // 첫 상태 확인 전
+
+        when(slaveStatus.next()).thenReturn(true);
+        when(slaveStatus.getLong("Seconds_Behind_Master")).thenReturn(30L);
+        router.checkReplicas();
+        assertEquals(PRIMARY, router.route());
+
+        when(slaveStatus.getLong("Seconds_Behind_Master")).thenReturn(1L);
+        router.checkReplicas();
+        assertEquals("replica-1", router.route());
+
+        when(slaveStatus.wasNull()).thenReturn(true);
+        router.checkReplicas();
+        assertEquals(PRIMARY, router.route());
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 회원은 잠시 동안 primary 에서 읽는다")
+    void readYourWrites() throws SQLException {
+        when(slaveStatus.next()).thenReturn(false);
+        router.checkReplicas();
+
+        // 회원 1의 읽기/쓰기 트랜잭션 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertEquals(PRIMARY, router.route());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(PRIMARY, router.route());
+
+        client.set("user:2");
+        assertEquals("replica-1", router.route());
+    }
+}
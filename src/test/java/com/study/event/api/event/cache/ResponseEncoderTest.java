@@ -0,0 +1,62 @@
+package com.study.event.api.event.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.event.api.event.dto.response.EventOneDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final ResponseEncoder encoder = new ResponseEncoder(objectMapper);
+
+    @Test
+    @DisplayName("gzip 본문을 풀면 직렬화한 JSON 과 같고, @JsonFormat 날짜 형식이 유지된다")
+    void gzipMatchesJson() throws IOException {
+        EventOneDto dto = new EventOneDto("1", "봄꽃 축제", "설명 ".repeat(100), null, LocalDate.of(2024, 7, 10));
+
+        EncodedResponse response = encoder.encode(dto);
+        byte[] json = response.body(null);
+
+        assertTrue(new String(json, "UTF-8").contains("2024년 07월 10일"));
+
+        byte[] gzip = response.body(EncodedResponse.GZIP);
+        assertTrue(gzip.length < json.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("작은 응답은 압축하지 않는다")
+    void smallResponseIsNotCompressed() {
+        EncodedResponse response = encoder.encode(new EventOneDto("1", "짧은", null, null, null));
+
+        assertNull(response.selectEncoding("gzip, deflate, br"));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 의 q 값을 반영한다")
+    void acceptEncoding() {
+        assertTrue(EncodedResponse.accepts("gzip, deflate, br", "br"));
+        assertFalse(EncodedResponse.accepts("gzip, br;q=0", "br"));
+        assertTrue(EncodedResponse.accepts("identity, *;q=0.5", "gzip"));
+        assertFalse(EncodedResponse.accepts("identity", "gzip"));
+        assertFalse(EncodedResponse.accepts(null, "gzip"));
+    }
+
+    @Test
+    @DisplayName("인코딩마다 본문이 다르므로 ETag 는 약한 ETag 로 보낸다")
+    void weakEtag() {
+        assertEquals("W/\"e1-3\"", EncodedResponse.weakEtag("e1-3"));
+    }
+}
@@ -0,0 +1,202 @@
+package com.study.event.api.event.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 목록 조회 쿼리의 실행계획 검사 (로컬 MariaDB 필요)
+// 마이그레이션을 적용한 뒤 테스트 데이터를 넣고 EXPLAIN 결과에 풀스캔, filesort 가 없는지 확인한다.
+//
+// EXPLAIN_DB_URL=jdbc:mariadb://localhost:3306/explain_test EXPLAIN_DB_USER=root EXPLAIN_DB_PASSWORD=mariadb
+// (테스트용 빈 DB 를 사용, 넣은 데이터는 끝나면 삭제)
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DB_URL", matches = ".+")
+class EventQueryPlanTest {
+
+    private static final int USERS = 20;
+    private static final int EVENTS_PER_USER = 200;
+    private static final int VERIFICATIONS = 2000;
+
+    private static Connection con;
+    private static final List<String> userIds = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        String url = System.getenv("EXPLAIN_DB_URL");
+        String user = System.getenv("EXPLAIN_DB_USER");
+        String password = System.getenv("EXPLAIN_DB_PASSWORD");
+
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+
+        con = DriverManager.getConnection(url, user, password);
+        insertTestData();
+
+        // 옵티마이저가 실제 데이터 분포로 판단하도록 통계 갱신
+        try (Statement stmt = con.createStatement()) {
+            stmt.execute("ANALYZE TABLE tbl_event_user, tbl_event, tbl_email_verification");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (con == null) return;
+        try (Statement stmt = con.createStatement()) {
+            stmt.executeUpdate("DELETE FROM tbl_email_verification WHERE verification_code = 'explain'");
+        }
+        try (PreparedStatement deleteEvents = con.prepareStatement("DELETE FROM tbl_event WHERE ev_user_id = ?");
+             PreparedStatement deleteUser = con.prepareStatement("DELETE FROM tbl_event_user WHERE ev_user_id = ?")) {
+            for (String userId : userIds) {
+                deleteEvents.setString(1, userId);
+                deleteEvents.executeUpdate();
+                deleteUser.setString(1, userId);
+                deleteUser.executeUpdate();
+            }
+        }
+        con.close();
+    }
+
+    @Test
+    @DisplayName("날짜순 목록은 인덱스 순서대로 읽는다")
+    void pageByDate() throws SQLException {
+        assertIndexOnly("ix_event_user_date",
+                "SELECT ev_id, ev_title, ev_start_date, ev_image_path FROM tbl_event " +
+                        "WHERE ev_user_id = ? ORDER BY ev_start_date DESC LIMIT 8, 4");
+    }
+
+    @Test
+    @DisplayName("제목순 목록은 인덱스 순서대로 읽는다")
+    void pageByTitle() throws SQLException {
+        assertIndexOnly("ix_event_user_title",
+                "SELECT ev_id, ev_title, ev_start_date, ev_image_path FROM tbl_event " +
+                        "WHERE ev_user_id = ? ORDER BY ev_title ASC LIMIT 8, 4");
+    }
+
+    @Test
+    @DisplayName("날짜 커서 조회는 커서 위치부터 인덱스 순서대로 읽는다")
+    void cursorByDate() throws SQLException {
+        assertIndexOnly("ix_event_user_date",
+                "SELECT ev_id, ev_title, ev_start_date, ev_image_path FROM tbl_event " +
+                        "WHERE ev_user_id = ? AND ev_start_date IS NOT NULL " +
+                        "AND (ev_start_date < '2024-06-01' OR (ev_start_date = '2024-06-01' AND ev_id < 1000000)) " +
+                        "ORDER BY ev_start_date DESC, ev_id DESC LIMIT 5");
+    }
+
+    @Test
+    @DisplayName("제목 커서 조회는 커서 위치부터 인덱스 순서대로 읽는다")
+    void cursorByTitle() throws SQLException {
+        assertIndexOnly("ix_event_user_title",
+                "SELECT ev_id, ev_title, ev_start_date, ev_image_path FROM tbl_event " +
+                        "WHERE ev_user_id = ? " +
+                        "AND (ev_title > '이벤트 100' OR (ev_title = '이벤트 100' AND ev_id > 0)) " +
+                        "ORDER BY ev_title ASC, ev_id ASC LIMIT 5");
+    }
+
+    @Test
+    @DisplayName("만료된 인증 코드 삭제는 만료시간 인덱스를 사용한다")
+    void deleteExpiredVerification() throws SQLException {
+        List<Plan> plans = explain("DELETE FROM tbl_email_verification WHERE expiry_date < NOW() LIMIT 500", null);
+
+        assertEquals("ix_email_verification_expiry", plans.get(0).key, plans.toString());
+        assertNotEquals("ALL", plans.get(0).type, plans.toString());
+    }
+
+    // 풀스캔, filesort 없이 지정한 인덱스만 읽는지(covering) 검사
+    private void assertIndexOnly(String index, String sql) throws SQLException {
+        List<Plan> plans = explain(sql, userIds.get(0));
+        assertEquals(1, plans.size(), plans.toString());
+
+        Plan plan = plans.get(0);
+        assertEquals(index, plan.key, plan.toString());
+        assertNotEquals("ALL", plan.type, plan.toString());
+        assertFalse(plan.extra.contains("Using filesort"), plan.toString());
+        assertTrue(plan.extra.contains("Using index"), plan.toString());
+    }
+
+    private List<Plan> explain(String sql, String userId) throws SQLException {
+        List<Plan> plans = new ArrayList<>();
+        try (PreparedStatement stmt = con.prepareStatement("EXPLAIN " + sql)) {
+            if (userId != null) stmt.setString(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    plans.add(new Plan(rs.getString("table"), rs.getString("type"),
+                            rs.getString("key"), String.valueOf(rs.getString("Extra"))));
+                }
+            }
+        }
+        return plans;
+    }
+
+    private static void insertTestData() throws SQLException {
+        con.setAutoCommit(false);
+        try (PreparedStatement user = con.prepareStatement(
+                "INSERT INTO tbl_event_user (ev_user_id, ev_user_email, role, email_verified, ev_count, ev_list_version) " +
+                        "VALUES (?, ?, 'COMMON', 1, ?, 0)");
+             PreparedStatement event = con.prepareStatement(
+                     "INSERT INTO tbl_event (ev_id, ev_title, ev_desc, ev_start_date, ev_version, ev_user_id) " +
+                             "VALUES (NEXT VALUE FOR tbl_event_seq, ?, ?, ?, 0, ?)")) {
+
+            for (int u = 0; u < USERS; u++) {
+                String userId = UUID.randomUUID().toString();
+                userIds.add(userId);
+
+                user.setString(1, userId);
+                user.setString(2, "explain-" + userId + "@test.local");
+                user.setInt(3, EVENTS_PER_USER);
+                user.executeUpdate();
+
+                for (int i = 0; i < EVENTS_PER_USER; i++) {
+                    event.setString(1, "이벤트 " + i);
+                    event.setString(2, "실행계획 확인용");
+                    event.setDate(3, Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i)));
+                    event.setString(4, userId);
+                    event.addBatch();
+                }
+                event.executeBatch();
+            }
+
+            // 대부분 아직 만료되지 않은 인증 코드 (만료된 코드는 1%)
+            try (PreparedStatement verification = con.prepareStatement(
+                    "INSERT INTO tbl_email_verification (verification_id, verification_code, expiry_date) " +
+                            "VALUES (?, 'explain', NOW() + INTERVAL ? MINUTE)")) {
+                for (int i = 0; i < VERIFICATIONS; i++) {
+                    verification.setString(1, UUID.randomUUID().toString());
+                    verification.setInt(2, i % 100 == 0 ? -10 : 5);
+                    verification.addBatch();
+                }
+                verification.executeBatch();
+            }
+            con.commit();
+        } finally {
+            con.setAutoCommit(true);
+        }
+    }
+
+    private static class Plan {
+        private final String table;
+        private final String type;
+        private final String key;
+        private final String extra;
+
+        Plan(String table, String type, String key, String extra) {
+            this.table = table;
+            this.type = type;
+            this.key = key;
+            this.extra = extra;
+        }
+
+        @Override
+        public String toString() {
+            return "table=" + table + ", type=" + type + ", key=" + key + ", extra=" + extra;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.study.event.api.event.repository;
+
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.entity.Role;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+class EventUserRepositoryCustomImplTest {
+
+    private NativeQuery<?> query;
+    private Session session;
+    private EventUserRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        query = mock(NativeQuery.class, RETURNS_SELF);
+        doReturn(1).when(query).executeUpdate();
+
+        session = mock(Session.class);
+        doReturn(query).when(session).createNativeQuery(anyString());
+
+        EntityManager em = mock(EntityManager.class);
+        when(em.unwrap(Session.class)).thenReturn(session);
+
+        repository = new EventUserRepositoryCustomImpl(em);
+    }
+
+    @Test
+    @DisplayName("개수 update 는 회원 캐시 영역이 아닌 별도 영역만 무효화한다")
+    void counterUpdateKeepsUserCache() {
+        assertEquals(1, repository.increaseEventCount("user-1", 1, Role.COMMON, 4));
+        repository.decreaseEventCount("user-1");
+        repository.increaseEventListVersion("user-1");
+
+        verify(query, times(3)).addSynchronizedQuerySpace(EventUserRepositoryCustomImpl.COUNTER_SPACE);
+        verify(query, never()).addSynchronizedEntityClass(any());
+        verify(query).setParameter("limitedRole", "COMMON");
+    }
+
+    @Test
+    @DisplayName("비밀번호 update 는 조회한 비밀번호가 그대로일 때만 변경하고 회원 캐시를 비운다")
+    void passwordUpdateComparesExpectedPassword() {
+        repository.updatePassword("user-1", "old-hash", "new-hash");
+        verify(session).createNativeQuery(contains("password = :expectedPassword"));
+        verify(query).setParameter("expectedPassword", "old-hash");
+
+        // 비밀번호가 없던 회원은 null 비교 대신 is null 조건
+        repository.confirmSignUp("user-2", null, "hash", LocalDateTime.now());
+        verify(session).createNativeQuery(contains("password is null"));
+
+        verify(query, times(2)).addSynchronizedEntityClass(EventUser.class);
+    }
+}
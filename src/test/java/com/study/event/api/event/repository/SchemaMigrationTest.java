@@ -0,0 +1,124 @@
+package com.study.event.api.event.repository;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 마이그레이션 검사 (내장 MariaDB)
+// 1. 빈 DB 에 V1 부터 모두 적용
+// 2. Flyway 도입 전 Hibernate 가 만든 DB 에 baseline 후 적용 (운영 설정과 같은 baseline-on-migrate, baseline-version=1)
+// 두 경우 모두 엔터티와 스키마가 일치하는지 Hibernate validate 로 확인한다.
+class SchemaMigrationTest {
+
+    private static DB db;
+
+    @BeforeAll
+    static void startDb() throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        db = DB.newEmbeddedDB(config.build());
+        db.start();
+    }
+
+    @AfterAll
+    static void stopDb() throws Exception {
+        if (db != null) db.stop();
+    }
+
+    private DataSource dataSource(String name) throws Exception {
+        db.createDB(name);
+        return new DriverManagerDataSource(
+                "jdbc:mariadb://localhost:" + db.getConfiguration().getPort() + "/" + name, "root", "");
+    }
+
+    private Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    @Test
+    @DisplayName("빈 DB 에 모든 마이그레이션을 적용하면 엔터티와 일치한다")
+    void emptyDatabase() throws Exception {
+        DataSource dataSource = dataSource("migration_empty");
+
+        flyway(dataSource).migrate();
+
+        assertValidSchema(dataSource);
+    }
+
+    @Test
+    @DisplayName("Hibernate 가 만든 기존 DB 는 V1 을 건너뛰고, 데이터를 유지한 채 엔터티와 일치하게 된다")
+    void baselinedDatabase() throws Exception {
+        DataSource dataSource = dataSource("migration_legacy");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        // Flyway 도입 전 Hibernate(ddl-auto) 가 만든 스키마 - 제약조건 이름은 Hibernate 가 임의로 만든 이름
+        jdbc.execute("create table tbl_event_user (ev_user_id varchar(255) not null, create_at datetime(6), " +
+                "email_verified bit not null, ev_user_email varchar(255) not null, password varchar(500), " +
+                "role varchar(255) not null, primary key (ev_user_id)) engine=InnoDB");
+        jdbc.execute("create table tbl_event (ev_id bigint not null auto_increment, created_at datetime(6), " +
+                "ev_start_date date, ev_desc varchar(255), ev_image_path varchar(255), ev_title varchar(50) not null, " +
+                "ev_user_id varchar(255), primary key (ev_id)) engine=InnoDB");
+        jdbc.execute("create table tbl_email_verification (verification_id varchar(255) not null, " +
+                "expiry_date datetime(6) not null, verification_code varchar(255) not null, " +
+                "event_user_id varchar(255), primary key (verification_id)) engine=InnoDB");
+        jdbc.execute("alter table tbl_event_user add constraint UK_7h3pqbqkhx0a5kfgl4ijr2h2n unique (ev_user_email)");
+        jdbc.execute("alter table tbl_email_verification add constraint UK_q2b6oboq2ncwxwwrgnjimnd5b unique (event_user_id)");
+        jdbc.execute("alter table tbl_event add constraint FKhe7y3fgtf2t0mjkogowf3p1gf " +
+                "foreign key (ev_user_id) references tbl_event_user (ev_user_id)");
+        jdbc.execute("alter table tbl_email_verification add constraint FK5m0ld2gsyq4e7e1dyj1nwt1ew " +
+                "foreign key (event_user_id) references tbl_event_user (ev_user_id)");
+
+        jdbc.update("insert into tbl_event_user (ev_user_id, ev_user_email, role, email_verified) " +
+                "values ('user-1', 'a@study.com', 'COMMON', 1)");
+        for (int i = 0; i < 3; i++) {
+            jdbc.update("insert into tbl_event (ev_title, ev_user_id) values (?, 'user-1')", "event-" + i);
+        }
+
+        flyway(dataSource).migrate();
+
+        // 기존 이벤트 개수가 채워지고, 새 PK 는 기존 최대 PK 다음부터
+        assertEquals(3, jdbc.queryForObject(
+                "select ev_count from tbl_event_user where ev_user_id = 'user-1'", Integer.class));
+        long maxId = jdbc.queryForObject("select max(ev_id) from tbl_event", Long.class);
+        assertTrue(jdbc.queryForObject("select nextval(tbl_event_seq)", Long.class) > maxId);
+
+        assertValidSchema(dataSource);
+    }
+
+    // 운영과 같은 이름 규칙으로 엔터티를 읽어 스키마 검사 (ddl-auto=validate)
+    private void assertValidSchema(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.study.event.api.event.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+
+        Properties properties = new Properties();
+        properties.put("hibernate.hbm2ddl.auto", "validate");
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put("hibernate.physical_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy");
+        properties.put("hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy");
+        factoryBean.setJpaProperties(properties);
+
+        assertDoesNotThrow(factoryBean::afterPropertiesSet);
+        factoryBean.destroy();
+    }
+}
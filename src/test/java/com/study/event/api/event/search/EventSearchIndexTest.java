@@ -0,0 +1,126 @@
+package com.study.event.api.event.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventSearchIndexTest {
+
+    private static final String USER_ID = "user-1";
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 밖에서 호출하면 색인에 바로 반영된다.
+        index = new EventSearchIndex(null, null);
+        index.index(1L, USER_ID, "봄꽃 축제", "여의도 벚꽃길을 걷는 행사");
+        index.index(2L, USER_ID, "가을 음악회", "축제 기간에 열리는 야외 공연");
+        index.index(3L, USER_ID, "Spring Festival", "봄맞이 할인");
+        index.index(4L, "user-2", "봄꽃 축제", "다른 회원의 이벤트");
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 2글자씩 잘라 검색한다")
+    void koreanBigrams() {
+        assertEquals(Set.of("봄꽃", "꽃축", "축제"), EventSearchIndex.queryTerms("봄꽃축제"));
+        assertEquals(Set.of("봄"), EventSearchIndex.queryTerms(" 봄! "));
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 이벤트가 설명에만 있는 이벤트보다 먼저 나온다")
+    void titleMatchRanksFirst() {
+        EventSearchIndex.Result result = index.search(USER_ID, "축제", 0, 10).orElseThrow();
+
+        assertEquals(List.of(1L, 2L), result.getIds());
+        assertEquals(2, result.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("다른 회원의 이벤트는 검색되지 않고, 대소문자는 구분하지 않는다")
+    void scopedToUserAndCaseInsensitive() {
+        assertEquals(List.of(3L), index.search(USER_ID, "FESTIVAL", 0, 10).orElseThrow().getIds());
+        assertEquals(List.of(4L), index.search("user-2", "회원", 0, 10).orElseThrow().getIds());
+    }
+
+    @Test
+    @DisplayName("수정, 삭제된 이벤트는 이전 내용으로 검색되지 않는다")
+    void incrementalUpdate() {
+        index.index(1L, USER_ID, "여름 축제", "해변 행사");
+        assertTrue(index.search(USER_ID, "벚꽃", 0, 10).orElseThrow().getIds().isEmpty());
+        assertEquals(List.of(1L), index.search(USER_ID, "해변", 0, 10).orElseThrow().getIds());
+
+        index.remove(2L, USER_ID);
+        assertEquals(List.of(1L), index.search(USER_ID, "축제", 0, 10).orElseThrow().getIds());
+    }
+
+    @Test
+    @DisplayName("검색 결과를 페이지 단위로 나눈다")
+    void paging() {
+        EventSearchIndex.Result second = index.search(USER_ID, "축제", 1, 1).orElseThrow();
+
+        assertEquals(List.of(2L), second.getIds());
+        assertEquals(2, second.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("색인 크기 제한을 넘으면 오래 검색하지 않은 회원의 색인만 버리고, 그 회원은 DB 검색으로 넘긴다")
+    void overflowEvictsLeastRecentlyUsedUser() {
+        EventSearchIndex small = new EventSearchIndex(null, null);
+        ReflectionTestUtils.setField(small, "maxPostings", 10L);
+
+        small.index(1L, USER_ID, "봄꽃", null);
+        assertEquals(List.of(1L), small.search(USER_ID, "봄꽃", 0, 10).orElseThrow().getIds());
+
+        small.index(2L, "user-2", "가을", null);
+        small.index(3L, "user-2", "음악회", null);
+
+        assertTrue(small.search(USER_ID, "봄꽃", 0, 10).isEmpty());
+        assertEquals(List.of(3L), small.search("user-2", "음악회", 0, 10).orElseThrow().getIds());
+
+        // 버린 회원의 변경은 재색인 때 DB 에서 다시 읽는다.
+        small.index(4L, USER_ID, "봄꽃 축제", null);
+        assertTrue(small.search(USER_ID, "축제", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("색인을 버린 회원은 회원의 이벤트만 다시 읽어 재색인한다")
+    @SuppressWarnings("unchecked")
+    void evictedUserIsReloaded() {
+        EntityManager em = mock(EntityManager.class);
+        TypedQuery<Object[]> query = mock(TypedQuery.class);
+        when(em.createQuery(anyString(), eq(Object[].class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(
+                new Object[]{1L, "봄꽃", null},
+                new Object[]{4L, "봄꽃 축제", null}));
+
+        TransactionTemplate tx = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        EventSearchIndex small = new EventSearchIndex(em, tx);
+        ReflectionTestUtils.setField(small, "maxPostings", 10L);
+
+        small.index(1L, USER_ID, "봄꽃", null);
+        small.index(2L, "user-2", "가을", null);
+        small.index(3L, "user-2", "음악회", null);
+        assertTrue(small.search(USER_ID, "봄꽃", 0, 10).isEmpty());
+
+        small.reload(USER_ID);
+
+        assertEquals(List.of(4L, 1L), small.search(USER_ID, "봄꽃", 0, 10).orElseThrow().getIds());
+        verify(query).setParameter("userId", USER_ID);
+        // 재색인으로 다시 제한을 넘으면 이번에는 오래된 user-2 를 버린다.
+        assertTrue(small.search("user-2", "음악회", 0, 10).isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+package com.study.event.api.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.event.api.config.HibernateConfig;
+import com.study.event.api.event.cache.EventCache;
+import com.study.event.api.event.entity.Event;
+import com.study.event.api.event.entity.Role;
+import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.search.EventSearchIndex;
+import com.study.event.api.exception.EventImportException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventImportServiceTest {
+
+    private static final String USER_ID = "user-1";
+    private static final int BATCH_SIZE = HibernateConfig.JDBC_BATCH_SIZE;
+
+    private EventUserRepository eventUserRepository;
+    private EntityManager em;
+    private EventImportService eventImportService;
+
+    @BeforeEach
+    void setUp() {
+        eventUserRepository = mock(EventUserRepository.class);
+        em = mock(EntityManager.class);
+
+        eventImportService = new EventImportService(eventUserRepository, new EventCache(100, 60, 1 << 20),
+                mock(EventSearchIndex.class), new ObjectMapper().registerModule(new JavaTimeModule()), em,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    @DisplayName("두 번째 배치가 등록 제한에 걸리면 첫 배치 개수와 실패한 위치를 알려준다")
+    void secondBatchFails() {
+        when(eventUserRepository.increaseEventCount(eq(USER_ID), anyInt(), eq(Role.COMMON), anyInt()))
+                .thenReturn(1)
+                .thenReturn(0);
+        when(eventUserRepository.existsById(USER_ID)).thenReturn(true);
+
+        EventImportException e = assertThrows(EventImportException.class,
+                () -> eventImportService.importEvents(events(BATCH_SIZE + 3), USER_ID));
+
+        assertEquals(BATCH_SIZE, e.getImported());
+        assertEquals(BATCH_SIZE, e.getFailedIndex());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        verify(em, times(BATCH_SIZE)).persist(any(Event.class));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 이벤트는 그 순번을 알려주고, 앞 배치는 저장된 개수에 포함된다")
+    void malformedEventAfterFirstBatch() {
+        when(eventUserRepository.increaseEventCount(eq(USER_ID), anyInt(), eq(Role.COMMON), anyInt())).thenReturn(1);
+
+        String body = json(BATCH_SIZE + 1).replaceFirst("\\]$", ", {\"beginDate\": \"not-a-date\"}]");
+
+        EventImportException e = assertThrows(EventImportException.class,
+                () -> eventImportService.importEvents(stream(body), USER_ID));
+
+        assertEquals(BATCH_SIZE, e.getImported());
+        assertEquals(BATCH_SIZE + 1, e.getFailedIndex());
+    }
+
+    @Test
+    @DisplayName("모두 저장되면 등록한 개수를 리턴한다")
+    void allImported() {
+        when(eventUserRepository.increaseEventCount(eq(USER_ID), anyInt(), eq(Role.COMMON), anyInt())).thenReturn(1);
+
+        assertEquals(BATCH_SIZE + 3, eventImportService.importEvents(events(BATCH_SIZE + 3), USER_ID));
+    }
+
+    private InputStream events(int count) {
+        return stream(json(count));
+    }
+
+    private String json(int count) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < count; i++) {
+            joiner.add("{\"title\": \"이벤트" + i + "\", \"desc\": \"설명\", \"beginDate\": \"2024-12-31\"}");
+        }
+        return joiner.toString();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,124 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.event.cache.EventCache;
+import com.study.event.api.event.dto.response.EventDetailDto;
+import com.study.event.api.event.repository.EventListVersion;
+import com.study.event.api.event.repository.EventRepository;
+import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.search.EventSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventServiceCacheTest {
+
+    private static final String USER_ID = "user-1";
+
+    private EventRepository eventRepository;
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        EventUserRepository eventUserRepository = mock(EventUserRepository.class);
+
+        List<EventDetailDto> events = List.of(
+                new EventDetailDto(1L, "이벤트1", LocalDate.now(), null),
+                new EventDetailDto(2L, "이벤트2", LocalDate.now(), null)
+        );
+
+        when(eventRepository.findEvents(any(), anyString(), anyString(), anyLong()))
+                .thenReturn(new PageImpl<>(events, PageRequest.of(0, 4), events.size()));
+
+        eventService = new EventService(eventRepository, eventUserRepository, new EventCache(100, 60, 1 << 20), readOnlyTx(), mock(ImageDerivativeService.class), mock(EventSearchIndex.class));
+    }
+
+    @Test
+    @DisplayName("같은 페이지를 반복 조회하면 DB 조회는 한 번만 일어난다")
+    void repeatedReadHitsCache() {
+        EventCache cache = new EventCache(100, 60, 1 << 20);
+        eventService = new EventService(eventRepository, mock(EventUserRepository.class), cache, readOnlyTx(), mock(ImageDerivativeService.class), mock(EventSearchIndex.class));
+
+        Map<String, Object> first = eventService.getEvents(1, "date", USER_ID);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first, eventService.getEvents(1, "date", USER_ID));
+        }
+
+        verify(eventRepository, times(1)).findEvents(any(), anyString(), anyString(), anyLong());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> pages = (Map<String, Object>) cache.stats().get("pages");
+        assertEquals(1L, pages.get("missCount"));
+        assertEquals(10L, pages.get("hitCount"));
+    }
+
+    @Test
+    @DisplayName("조회 도중 목록이 바뀌면 그 조회 결과는 다음 조회에 사용되지 않는다")
+    void evictDuringLoadDoesNotKeepStalePage() {
+        EventCache cache = new EventCache(100, 60, 1 << 20);
+        eventService = new EventService(eventRepository, mock(EventUserRepository.class), cache, readOnlyTx(), mock(ImageDerivativeService.class), mock(EventSearchIndex.class));
+
+        // 첫 조회가 DB 를 읽는 사이에 다른 요청이 이벤트를 등록하고 커밋한 상황
+        when(eventRepository.findEvents(any(), anyString(), anyString(), anyLong()))
+                .thenAnswer(inv -> {
+                    cache.evictPages(USER_ID);
+                    return new PageImpl<>(List.of(), PageRequest.of(0, 4), 0);
+                })
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 4), 1));
+
+        eventService.getEvents(1, "date", USER_ID);
+        Map<String, Object> second = eventService.getEvents(1, "date", USER_ID);
+
+        assertEquals(1L, second.get("totalCount"));
+        verify(eventRepository, times(2)).findEvents(any(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("목록 캐시를 비우면 다음 조회는 DB 에서 다시 읽는다")
+    void evictPagesReloads() {
+        EventCache cache = new EventCache(100, 60, 1 << 20);
+        eventService = new EventService(eventRepository, mock(EventUserRepository.class), cache, readOnlyTx(), mock(ImageDerivativeService.class), mock(EventSearchIndex.class));
+
+        eventService.getEvents(1, "date", USER_ID);
+        eventService.getEvents(1, "title", USER_ID);
+        cache.evictPages(USER_ID);
+        eventService.getEvents(1, "date", USER_ID);
+
+        verify(eventRepository, times(3)).findEvents(any(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("목록의 전체 개수는 목록 버전과 함께 읽은 회원의 이벤트 개수를 사용하고, 버전은 한 번만 조회한다")
+    void totalCountFromListVersion() {
+        EventUserRepository eventUserRepository = mock(EventUserRepository.class);
+        when(eventUserRepository.findEventListVersionById(USER_ID))
+                .thenReturn(Optional.of(new EventListVersion(3, 7)));
+        eventService = new EventService(eventRepository, eventUserRepository, new EventCache(100, 60, 1 << 20), readOnlyTx(), mock(ImageDerivativeService.class), mock(EventSearchIndex.class));
+
+        // 컨트롤러는 ETag 확인을 위해 버전을 먼저 조회한다.
+        assertEquals(3, eventService.getEventListVersion(USER_ID).getVersion());
+        eventService.getEvents(1, "date", USER_ID);
+
+        verify(eventRepository).findEvents(any(), eq("date"), eq(USER_ID), eq(7L));
+        verify(eventUserRepository, times(1)).findEventListVersionById(USER_ID);
+    }
+
+    private TransactionTemplate readOnlyTx() {
+        TransactionTemplate template = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        template.setReadOnly(true);
+        return template;
+    }
+}
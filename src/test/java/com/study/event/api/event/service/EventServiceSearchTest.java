@@ -0,0 +1,53 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.event.cache.EventCache;
+import com.study.event.api.event.dto.response.EventDetailDto;
+import com.study.event.api.event.repository.EventRepository;
+import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.search.EventSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventServiceSearchTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Test
+    @DisplayName("색인 크기 제한으로 회원 색인을 버리면 그 회원의 검색은 DB 에서 처리한다")
+    void evictedUserFallsBackToDatabase() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        List<EventDetailDto> found = List.of(new EventDetailDto(1L, "봄꽃 축제", LocalDate.now(), null));
+        when(eventRepository.searchEvents(eq(USER_ID), anyList(), any()))
+                .thenReturn(new PageImpl<>(found, PageRequest.of(0, 4), 1));
+
+        EventSearchIndex index = new EventSearchIndex(null, null);
+        ReflectionTestUtils.setField(index, "maxPostings", 10L);
+        index.index(1L, USER_ID, "봄꽃", null);
+        index.index(2L, "user-2", "가을", null);
+        index.index(3L, "user-2", "음악회", null);
+
+        TransactionTemplate tx = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        EventService eventService = new EventService(eventRepository, mock(EventUserRepository.class),
+                new EventCache(100, 60, 1 << 20), tx, mock(ImageDerivativeService.class), index);
+
+        Map<String, Object> result = eventService.searchEvents("봄꽃 축제", 1, USER_ID);
+
+        assertEquals(found, result.get("events"));
+        assertEquals(1L, result.get("totalCount"));
+        verify(eventRepository).searchEvents(USER_ID, List.of("봄꽃", "축제"), PageRequest.of(0, 4));
+        verify(eventRepository, never()).findEventsByIds(any());
+    }
+}
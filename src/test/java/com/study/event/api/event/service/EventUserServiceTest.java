@@ -0,0 +1,93 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.auth.PasswordHasher;
+import com.study.event.api.auth.TokenProvider;
+import com.study.event.api.auth.revocation.UsedRefreshTokenStore;
+import com.study.event.api.auth.revocation.UserTokenCutoffStore;
+import com.study.event.api.event.dto.request.EventUserSaveDto;
+import com.study.event.api.event.dto.request.LoginRequestDto;
+import com.study.event.api.event.entity.EventUser;
+import com.study.event.api.event.repository.EventUserRepository;
+import com.study.event.api.event.verification.VerificationCodeStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventUserServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    private EventUserRepository eventUserRepository;
+    private PasswordHasher passwordHasher;
+    private EventUserService eventUserService;
+
+    @BeforeEach
+    void setUp() {
+        eventUserRepository = mock(EventUserRepository.class);
+        passwordHasher = mock(PasswordHasher.class);
+
+        eventUserService = new EventUserService(eventUserRepository, mock(VerificationCodeStore.class),
+                mock(MailOutboxService.class), passwordHasher, mock(TokenProvider.class),
+                mock(UserTokenCutoffStore.class), mock(UsedRefreshTokenStore.class), mock(EntityManagerFactory.class));
+    }
+
+    @Test
+    @DisplayName("이전 설정의 비밀번호는 조회한 값이 그대로일 때만 비밀번호 컬럼만 변경한다")
+    void rehashUpdatesPasswordOnly() {
+        EventUser user = EventUser.builder().id("user-1").email(EMAIL).password("old-hash").emailVerified(true).build();
+        when(eventUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("pw", "old-hash")).thenReturn(true);
+        when(passwordHasher.needsRehash("old-hash")).thenReturn(true);
+        when(passwordHasher.encode("pw")).thenReturn("new-hash");
+
+        eventUserService.authenticate(new LoginRequestDto(EMAIL, "pw"));
+
+        verify(eventUserRepository).updatePassword("user-1", "old-hash", "new-hash");
+        verify(eventUserRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("그 사이 비밀번호가 바뀌어 변경하지 못해도 로그인은 성공한다")
+    void rehashSkippedWhenPasswordChanged() {
+        EventUser user = EventUser.builder().id("user-1").email(EMAIL).password("old-hash").emailVerified(true).build();
+        when(eventUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("pw", "old-hash")).thenReturn(true);
+        when(passwordHasher.needsRehash("old-hash")).thenReturn(true);
+        when(passwordHasher.encode("pw")).thenReturn("new-hash");
+        when(eventUserRepository.updatePassword(anyString(), anyString(), anyString())).thenReturn(0);
+
+        assertEquals(EMAIL, eventUserService.authenticate(new LoginRequestDto(EMAIL, "pw")).getEmail());
+    }
+
+    @Test
+    @DisplayName("회원가입 마무리는 조회한 비밀번호를 조건으로 비밀번호와 가입시간만 변경한다")
+    void confirmSignUpUpdatesColumns() {
+        EventUser user = EventUser.builder().id("user-1").email(EMAIL).emailVerified(true).build();
+        when(eventUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHasher.encode("pw")).thenReturn("hash");
+        when(eventUserRepository.confirmSignUp(eq("user-1"), isNull(), eq("hash"), any())).thenReturn(1);
+
+        eventUserService.confirmSignUp(new EventUserSaveDto(EMAIL, "pw"));
+
+        verify(eventUserRepository).confirmSignUp(eq("user-1"), isNull(), eq("hash"), any());
+        verify(eventUserRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 마무리 중 다른 요청이 비밀번호를 바꿨으면 실패한다")
+    void confirmSignUpFailsOnConcurrentChange() {
+        EventUser user = EventUser.builder().id("user-1").email(EMAIL).emailVerified(true).build();
+        when(eventUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHasher.encode("pw")).thenReturn("hash");
+        when(eventUserRepository.confirmSignUp(any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> eventUserService.confirmSignUp(new EventUserSaveDto(EMAIL, "pw")));
+    }
+}
@@ -0,0 +1,93 @@
+package com.study.event.api.event.service;
+
+import com.study.event.api.event.entity.ImageDerivative;
+import com.study.event.api.event.repository.ImageDerivativeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageDerivativeServiceTest {
+
+    private static final String BASE = "https://bucket.s3.ap-northeast-2.amazonaws.com/";
+    private static final String KEY = "2024/07/22/abc_cat.png";
+
+    private AwsS3Service s3Service;
+    private ImageDerivativeRepository repository;
+    private ImageDerivativeService service;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = mock(AwsS3Service.class);
+        when(s3Service.keyOf(anyString())).thenAnswer(inv -> {
+            String url = inv.getArgument(0);
+            return url.startsWith(BASE) ? url.substring(BASE.length()) : null;
+        });
+
+        repository = mock(ImageDerivativeRepository.class);
+        service = new ImageDerivativeService(s3Service, repository);
+        ReflectionTestUtils.setField(service, "maxPixels", 10_000L);
+        ReflectionTestUtils.invokeMethod(service, "start");
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("축소본 URL 은 기록 여부와 이미지 경로만으로 계산하고 S3 에 묻지 않는다")
+    void urlWithoutS3Call() {
+        assertNull(service.urlOf(BASE + KEY, false, ImageDerivativeService.Variant.THUMBNAIL));
+        assertEquals(BASE + KEY + ".thumb.jpg", service.urlOf(BASE + KEY, true, ImageDerivativeService.Variant.THUMBNAIL));
+        assertNull(service.urlOf("https://other.com/cat.png", true, ImageDerivativeService.Variant.THUMBNAIL));
+
+        verify(s3Service, never()).download(anyString());
+    }
+
+    @Test
+    @DisplayName("모든 축소본을 올린 뒤에 원본 URL 을 기록한다")
+    void recordAfterAllVariantsUploaded() throws IOException {
+        when(s3Service.download(KEY)).thenReturn(new ByteArrayInputStream(png(80, 60)));
+
+        service.createDerivatives(BASE + KEY, KEY);
+
+        verify(s3Service).uploadObject(any(), anyLong(), eq("image/jpeg"), eq(KEY + ".thumb.jpg"));
+        verify(s3Service).uploadObject(any(), anyLong(), eq("image/jpeg"), eq(KEY + ".medium.jpg"));
+        verify(repository).save(new ImageDerivative(BASE + KEY, null));
+    }
+
+    @Test
+    @DisplayName("축소본 업로드가 하나라도 실패하면 기록하지 않는다")
+    void noRecordWhenUploadFails() throws IOException {
+        when(s3Service.download(KEY)).thenReturn(new ByteArrayInputStream(png(80, 60)));
+        doThrow(new RuntimeException("S3 오류")).when(s3Service)
+                .uploadObject(any(), anyLong(), anyString(), eq(KEY + ".medium.jpg"));
+
+        service.createDerivatives(BASE + KEY, KEY);
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 제한을 넘는 이미지는 디코딩하지 않고 축소본도 만들지 않는다")
+    void rejectOversized() throws IOException {
+        when(s3Service.download(KEY)).thenReturn(new ByteArrayInputStream(png(200, 100)));
+
+        service.createDerivatives(BASE + KEY, KEY);
+
+        verify(s3Service, never()).uploadObject(any(), anyLong(), anyString(), anyString());
+        verify(repository, never()).save(any());
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.event.api.event.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.study.event.api.event.entity.MailOutbox;
+import com.study.event.api.event.entity.MailStatus;
+import com.study.event.api.event.repository.MailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MailOutboxWorkerTest {
+
+    // 로컬 SMTP 서버 (localhost:3025)
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MailOutboxRepository.class);
+    }
+
+    private MailOutboxWorker workerFor(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+
+        MailOutboxWorker worker = new MailOutboxWorker(repository, sender);
+        ReflectionTestUtils.setField(worker, "mailHost", "noreply@study.com");
+        return worker;
+    }
+
+    private MailOutbox mail(long id, String to, int attempts) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient(to)
+                .subject("[인증메일] 테스트")
+                .content("인증 코드: <b>1234</b>")
+                .status(MailStatus.SENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("점유한 메일을 한 번에 발송하고 발송완료로 기록한다")
+    void deliverBatch() throws Exception {
+        MailOutboxWorker worker = workerFor(ServerSetupTest.SMTP.getPort());
+
+        worker.deliver(List.of(mail(1L, "a@gmail.com", 0), mail(2L, "b@gmail.com", 0)));
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("1234"));
+
+        verify(repository).markAttempt(eq(1L), eq(MailStatus.SENT), any(), isNull());
+        verify(repository).markAttempt(eq(2L), eq(MailStatus.SENT), any(), isNull());
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 재시도 대기로 돌려놓는다")
+    void retryWhenServerDown() {
+        MailOutboxWorker worker = workerFor(ServerSetupTest.SMTP.getPort() + 1);
+
+        worker.deliver(List.of(mail(1L, "a@gmail.com", 0)));
+
+        verify(repository).markAttempt(eq(1L), eq(MailStatus.PENDING),
+                argThat(next -> next.isAfter(LocalDateTime.now())), anyString());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘으면 발송실패로 기록한다")
+    void failAfterMaxAttempts() {
+        MailOutboxWorker worker = workerFor(ServerSetupTest.SMTP.getPort() + 1);
+
+        worker.deliver(List.of(mail(1L, "a@gmail.com", 4)));
+
+        verify(repository).markAttempt(eq(1L), eq(MailStatus.FAILED), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 발송완료/실패 메일을 배치 크기씩 모두 삭제한다")
+    void purgeFinishedInBatches() {
+        MailOutboxWorker worker = workerFor(ServerSetupTest.SMTP.getPort());
+        when(repository.deleteFinishedBefore(any(), eq(500))).thenReturn(500, 500, 12);
+
+        worker.purgeFinished();
+
+        verify(repository, times(3)).deleteFinishedBefore(
+                argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusDays(6))), eq(500));
+    }
+
+    @Test
+    @DisplayName("발송할 메일 조회는 읽기 전용 트랜잭션(복제 DB)이 아닌 primary 에서 한다")
+    void pendingReadUsesPrimary() throws NoSuchMethodException {
+        Transactional tx = MailOutboxRepository.class
+                .getMethod("findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc",
+                        MailStatus.class, LocalDateTime.class, Pageable.class)
+                .getAnnotation(Transactional.class);
+
+        assertNotNull(tx);
+        assertFalse(tx.readOnly());
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.event.api.event.verification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    // 테스트에서 직접 움직이는 시계
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private InMemoryVerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryVerificationCodeStore(now::get);
+    }
+
+    @Test
+    @DisplayName("일치하는 코드는 한 번만 사용할 수 있다")
+    void matchOnlyOnce() {
+        store.save(EMAIL, "1234", Duration.ofMinutes(5));
+
+        assertFalse(store.matchAndRemove(EMAIL, "9999"));
+        assertTrue(store.matchAndRemove(EMAIL, "1234"));
+        assertFalse(store.matchAndRemove(EMAIL, "1234"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 확인한 코드는 커밋될 때 제거되고, 롤백되면 다시 사용할 수 있다")
+    void consumedOnCommit() {
+        store.save(EMAIL, "1234", Duration.ofMinutes(5));
+
+        assertTrue(inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(1, store.size());
+
+        assertTrue(inTransaction(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(0, store.size());
+    }
+
+    // 트랜잭션 안에서 코드를 확인하고 (커밋 전 재확인은 실패), 주어진 결과로 트랜잭션을 끝낸다.
+    private boolean inTransaction(int completionStatus) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            boolean matched = store.matchAndRemove(EMAIL, "1234");
+            assertFalse(store.matchAndRemove(EMAIL, "1234"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(completionStatus));
+            return matched;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("새 코드를 발급하면 이전 코드는 사용할 수 없다")
+    void reissueReplacesCode() {
+        store.save(EMAIL, "1111", Duration.ofMinutes(5));
+        store.save(EMAIL, "2222", Duration.ofMinutes(5));
+
+        assertFalse(store.matchAndRemove(EMAIL, "1111"));
+        assertTrue(store.matchAndRemove(EMAIL, "2222"));
+    }
+
+    @Test
+    @DisplayName("만료된 코드는 일치하지 않고, 정리 작업이 만료 시각이 지나면 제거한다")
+    void expiredCodeIsSwept() {
+        store.save(EMAIL, "1234", Duration.ofMinutes(5));
+
+        advance(Duration.ofMinutes(5).minusSeconds(1));
+        store.sweep();
+        assertEquals(1, store.size());
+
+        advance(Duration.ofSeconds(2));
+        assertFalse(store.matchAndRemove(EMAIL, "1234"));
+        store.sweep();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 유효시간도 만료 전에는 지워지지 않는다")
+    void longTtlSurvivesFullRotation() {
+        store.save(EMAIL, "1234", Duration.ofMinutes(20));
+
+        advance(Duration.ofMinutes(10));
+        store.sweep();
+        assertEquals(1, store.size());
+
+        advance(Duration.ofMinutes(11));
+        store.sweep();
+        assertEquals(0, store.size());
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
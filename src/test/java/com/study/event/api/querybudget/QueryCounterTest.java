@@ -0,0 +1,62 @@
+package com.study.event.api.querybudget;
+
+import com.p6spy.engine.common.StatementInformation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryCounterTest {
+
+    private final QueryCountListener listener = new QueryCountListener();
+
+    @Test
+    @DisplayName("측정 범위 안에서 실행된 SQL 만 세고, 같은 SQL 반복은 N+1 로 찾아낸다")
+    void countsStatementsInScope() {
+        execute("select * from tbl_event");   // 범위 밖 - 무시
+
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            execute("select * from tbl_event");
+            for (int i = 0; i < 3; i++) execute("select * from tbl_event_user where ev_user_id=?");
+
+            assertEquals(4, scope.getCount());
+            assertEquals(Map.of("select * from tbl_event_user where ev_user_id=?", 3), scope.getRepeated(3));
+        }
+        assertNull(QueryCounter.current());
+    }
+
+    @Test
+    @DisplayName("허용 개수를 넘으면 테스트 검증이 실패한다")
+    void assertMaxQueries() {
+        assertDoesNotThrow(() -> QueryCounter.assertMaxQueries(2, () -> {
+            execute("select 1");
+            execute("select 2");
+        }));
+        assertThrows(AssertionError.class, () -> QueryCounter.assertMaxQueries(1, () -> {
+            execute("select 1");
+            execute("select 2");
+        }));
+    }
+
+    @Test
+    @DisplayName("fail-on-exceed 이면 허용 개수를 넘는 SQL 에서 예외가 발생한다")
+    void failOnExceed() {
+        ReflectionTestUtils.setField(listener, "failOnExceed", true);
+
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            scope.setBudget(1);
+            execute("select 1");
+            assertThrows(QueryBudgetExceededException.class, () -> execute("select 2"));
+        }
+    }
+
+    private void execute(String sql) {
+        StatementInformation statement = mock(StatementInformation.class);
+        when(statement.getSql()).thenReturn(sql);
+        listener.onAfterAnyExecute(statement, 1_000_000L, null);
+    }
+}